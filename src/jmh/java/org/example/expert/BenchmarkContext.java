@@ -0,0 +1,32 @@
+package org.example.expert;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Base64;
+
+/**
+ * 벤치마크용으로 웹 서버 없이 인메모리 H2 위에 애플리케이션 컨텍스트를 띄웁니다.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName, String... properties) {
+        return new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()),
+                        "password.bcrypt.min-cost=4",
+                        "password.bcrypt.max-cost=4",
+                        "auth.signup.email-filter.expected-insertions=1000",
+                        "logging.level.root=warn"
+                )
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.expert.domain;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.BenchmarkContext;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 API 한 번에 해당하는 작업을 엔티티 조회 + DTO 변환(이전 방식)과 DTO projection 으로 비교합니다.
+ * 요청당 힙 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op) 값으로 확인합니다.
+ * ./gradlew jmh -Pjmh.includes=ReadProjectionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReadProjectionBenchmark {
+
+    private static final int TODO_COUNT = 1_000;
+    private static final int COMMENTS_PER_TODO = 20;
+    private static final int PAGE_SIZE = 10;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readOnlyTransaction;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private Long todoId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("projection-benchmark");
+
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        todoId = new TransactionTemplate(transactionManager).execute(status -> seed());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoPageWithEntities() {
+        return readOnlyTransaction.execute(status -> entityManager()
+                .createQuery("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC", Todo.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt(),
+                        todo.getCommentCount(),
+                        todo.getManagerCount()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoPageWithProjection() {
+        return readOnlyTransaction.execute(status ->
+                todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, PAGE_SIZE)).getContent());
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsWithEntities() {
+        return readOnlyTransaction.execute(status -> entityManager()
+                .createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                .setParameter("todoId", todoId)
+                .getResultList()
+                .stream()
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsWithProjection() {
+        return readOnlyTransaction.execute(status -> commentRepository.findResponsesByTodoId(todoId));
+    }
+
+    private EntityManager entityManager() {
+        return EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+    }
+
+    private Long seed() {
+        EntityManager entityManager = entityManager();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = new User("bench" + i + "@test.com", "password", UserRole.USER);
+            entityManager.persist(user);
+            users.add(user);
+        }
+
+        Todo last = null;
+        for (int i = 0; i < TODO_COUNT; i++) {
+            User user = users.get(i % users.size());
+            Todo todo = new Todo("제목" + i, "내용" + i, "맑음", user);
+            entityManager.persist(todo);
+            for (int j = 0; j < COMMENTS_PER_TODO; j++) {
+                entityManager.persist(new Comment("댓글" + j, users.get(j % users.size()), todo));
+            }
+            last = todo;
+        }
+        return last.getId();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.BenchmarkContext;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 저장 처리량을 측정합니다. 일정 하나를 저장하면 작성자 Manager 가 cascade 로 함께 저장됩니다.
+ * batchSize 1 은 JDBC batch 를 끈 경우이고, 나머지는 시퀀스 id + 테이블별 batch insert 입니다.
+ * ./gradlew jmh -Pjmh.includes=TodoWriteBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TodoWriteBenchmark {
+
+    private static final int BULK_SIZE = 100;
+    private static final int COMMENTS_PER_TODO = 5;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transaction;
+    private TodoRepository todoRepository;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("write-benchmark-" + batchSize, "persistence.jdbc.batch-size=" + batchSize);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        user = transaction.execute(status -> {
+            User newUser = new User("writer@test.com", "password", UserRole.USER);
+            entityManager().persist(newUser);
+            return newUser;
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // POST /todos 한 건
+    @Benchmark
+    public Todo saveTodo() {
+        return transaction.execute(status -> todoRepository.save(new Todo("제목", "내용", "맑음", user)));
+    }
+
+    // 일정 BULK_SIZE 건과 각 일정의 댓글을 한 트랜잭션에서 저장
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public int bulkWrite() {
+        return transaction.execute(status -> {
+            EntityManager entityManager = entityManager();
+            List<Todo> todos = new ArrayList<>(BULK_SIZE);
+            for (int i = 0; i < BULK_SIZE; i++) {
+                Todo todo = new Todo("제목" + i, "내용" + i, "맑음", user);
+                entityManager.persist(todo);
+                for (int j = 0; j < COMMENTS_PER_TODO; j++) {
+                    entityManager.persist(new Comment("댓글" + j, user, todo));
+                }
+                todos.add(todo);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return todos.size();
+        });
+    }
+
+    private EntityManager entityManager() {
+        return EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+    }
+}
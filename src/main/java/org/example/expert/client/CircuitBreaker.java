@@ -0,0 +1,106 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출이 연속으로 실패하면 일정 시간 동안 호출 자체를 막는 간단한 circuit breaker 입니다.
+ * CLOSED -> (연속 실패 failureThreshold 회) -> OPEN -> (openDuration 경과) -> HALF_OPEN -> (시험 호출 성공) -> CLOSED
+ */
+@Slf4j(topic = "CircuitBreaker")
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    private final Map<State, LongAdder> transitions = new EnumMap<>(State.class);
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000;
+        for (State value : State.values()) {
+            transitions.put(value, new LongAdder());
+        }
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        if (!tryAcquirePermission()) {
+            throw new CircuitBreakerOpenException(name + " 호출이 일시적으로 차단되었습니다.");
+        }
+
+        try {
+            T result = action.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // 해당 상태로 전이된 횟수
+    public long getTransitionCount(State to) {
+        return transitions.get(to).sum();
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            // HALF_OPEN 에서는 시험 호출 하나만 통과시킵니다.
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        transitionTo(State.CLOSED);
+    }
+
+    private synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            openedAt = System.nanoTime();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        log.warn("{} circuit breaker 상태 변경 : {} -> {}", name, state, next);
+        state = next;
+        transitions.get(next).increment();
+    }
+}
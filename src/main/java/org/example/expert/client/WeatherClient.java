@@ -1,63 +1,261 @@
 package org.example.expert.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
+@Slf4j(topic = "WeatherClient")
 @Component
-public class WeatherClient {
+public class WeatherClient implements MeterBinder {
+
+    // 외부 장애로 날씨를 받지 못했고 스냅샷에도 없을 때 돌려주는 값
+    static final String UNKNOWN_WEATHER = "Unknown";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final WeatherSnapshotStore snapshotStore;
+    // http(s) 가 아니면 file:, classpath: 같은 리소스로 읽습니다.
+    private final String sourceUrl;
+
+    // 1년치 날씨를 day-of-year 로 바로 찾는 스냅샷. 시작할 때 로컬 파일에서 불러오고 주기적으로 교체합니다.
+    private volatile WeatherSnapshot snapshot;
+    // 스냅샷 갱신이 동시에 필요해도 외부 호출은 한 번만 나가도록 진행 중인 갱신을 공유합니다.
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> inFlight = new AtomicReference<>();
+    // 데이터셋을 새로 받아도 없던 날짜. 다음 정기 갱신 전까지는 다시 받지 않습니다.
+    private volatile LocalDate missingDate;
+    // 갱신에 실패했을 때 돌려줄 마지막 값
+    private volatile String lastKnownWeather;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    // bindTo 이후에만 기록됩니다.
+    private volatile Timer requestTimer;
+
+    public WeatherClient(
+            RestTemplate weatherRestTemplate,
+            CircuitBreaker weatherCircuitBreaker,
+            WeatherSnapshotStore weatherSnapshotStore,
+            @Value("${weather.source-url:https://f-api.github.io/f-api/weather.json}") String sourceUrl
+    ) {
+        this.restTemplate = weatherRestTemplate;
+        this.circuitBreaker = weatherCircuitBreaker;
+        this.snapshotStore = weatherSnapshotStore;
+        this.sourceUrl = sourceUrl;
+        this.snapshot = weatherSnapshotStore.load();
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        LocalDate today = LocalDate.now();
+
+        String weather = snapshot.get(today);
+        if (weather != null) {
+            hitCount.increment();
+            remember(weather);
+            return weather;
+        }
+
+        missCount.increment();
+        if (today.equals(missingDate)) {
+            return fallbackWeather();
+        }
+
+        try {
+            weather = refresh().get(today);
+        } catch (CircuitBreakerOpenException | RestClientException e) {
+            // 연결 실패, 타임아웃, 차단 같은 외부 장애는 일정 생성을 막지 않도록 대체 값을 돌려줍니다.
+            log.warn("오늘 날씨를 가져오지 못해 대체 값을 사용합니다. {}", e.getMessage());
+            return fallbackWeather();
+        } catch (RuntimeException e) {
+            String fallback = lastKnownWeather;
+            if (fallback == null) {
+                throw e;
+            }
+            log.warn("오늘 날씨를 가져오지 못해 마지막으로 받은 날씨를 사용합니다. {}", e.getMessage());
+            return fallback;
+        }
+
+        if (weather == null) {
+            // 데이터셋에 오늘이 없으면 요청마다 전체를 다시 받지 않도록 기억해 두고 대체 값을 씁니다.
+            missingDate = today;
+            log.warn("날씨 데이터셋에 {} 가 없어 다음 정기 갱신까지 대체 값을 사용합니다.", today);
+            return fallbackWeather();
+        }
+        remember(weather);
+        return weather;
+    }
+
+    // 데이터셋 전체를 주기적으로 다시 받아 스냅샷과 로컬 파일을 교체합니다.
+    @Scheduled(cron = "${weather.snapshot.refresh-cron:0 0 4 * * *}")
+    public void refreshSnapshot() {
+        try {
+            refresh();
+            missingDate = null;
+        } catch (RuntimeException e) {
+            log.warn("날씨 스냅샷을 갱신하지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("weather.cache.requests", hitCount, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("weather.cache.requests", missCount, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("weather.snapshot.size", this, c -> c.snapshot.size())
+                .description("스냅샷에 들어 있는 날짜 수")
+                .register(registry);
+
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            FunctionCounter.builder("weather.circuit.transitions", circuitBreaker, c -> c.getTransitionCount(state))
+                    .description("circuit breaker 가 해당 상태로 전이된 횟수")
+                    .tag("to", state.name())
+                    .register(registry);
+        }
+        Gauge.builder("weather.circuit.state", circuitBreaker, c -> c.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(registry);
+
+        requestTimer = Timer.builder("weather.http.requests")
+                .description("날씨 API 호출 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
+    private void remember(String weather) {
+        if (!weather.equals(lastKnownWeather)) {
+            lastKnownWeather = weather;
+        }
+    }
+
+    private String fallbackWeather() {
+        String fallback = lastKnownWeather;
+        return fallback != null ? fallback : UNKNOWN_WEATHER;
+    }
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    private WeatherSnapshot refresh() {
+        CompletableFuture<WeatherSnapshot> future = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, future)) {
+            CompletableFuture<WeatherSnapshot> existing = inFlight.get();
+            if (existing != null) {
+                return join(existing);
+            }
+            return refresh();
+        }
+
+        try {
+            WeatherSnapshot fetched = WeatherSnapshot.from(fetchWeather());
+            snapshot = fetched;
+            snapshotStore.save(fetched);
+            future.complete(fetched);
+            return fetched;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.compareAndSet(future, null);
+        }
+    }
+
+    private WeatherSnapshot join(CompletableFuture<WeatherSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
+    }
 
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    private WeatherDto[] fetchWeather() {
+        if (!sourceUrl.startsWith("http://") && !sourceUrl.startsWith("https://")) {
+            return readWeatherResource();
         }
 
-        String today = getCurrentDate();
+        URI uri = buildWeatherApiUri();
+
+        // HTTP 호출과 상태 코드 확인만 circuit breaker 로 감싸고, 응답 내용 문제는 실패로 세지 않습니다.
+        ResponseEntity<WeatherDto[]> responseEntity = circuitBreaker.execute(() -> {
+            ResponseEntity<WeatherDto[]> response = timed(() ->
+                    restTemplate.getForEntity(uri, WeatherDto[].class));
+            if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
+            }
+            return response;
+        });
+
+        return responseEntity.getBody();
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+    // 네트워크 없이도 같은 형식의 JSON 파일을 원본으로 쓸 수 있습니다.
+    private WeatherDto[] readWeatherResource() {
+        Resource resource = new DefaultResourceLoader().getResource(sourceUrl);
+        try (InputStream inputStream = resource.getInputStream()) {
+            JsonNode root = OBJECT_MAPPER.readTree(inputStream);
+            if (root == null || !root.isArray()) {
+                return null;
+            }
+            WeatherDto[] weatherArray = new WeatherDto[root.size()];
+            for (int i = 0; i < root.size(); i++) {
+                JsonNode node = root.get(i);
+                weatherArray[i] = new WeatherDto(node.path("date").asText(null), node.path("weather").asText(null));
             }
+            return weatherArray;
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터를 읽는데 실패했습니다. source: " + sourceUrl);
         }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private <T> T timed(Supplier<T> call) {
+        Timer timer = requestTimer;
+        if (timer == null) {
+            return call.get();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(sourceUrl)
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
@@ -0,0 +1,124 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * 1년치 날씨를 윤년 기준 day-of-year(0 ~ 365) 배열로 들고 있는 불변 스냅샷입니다.
+ * 조회는 배열 인덱스 계산뿐이라 O(1) 이고 객체를 만들지 않습니다.
+ */
+public final class WeatherSnapshot {
+
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    static final WeatherSnapshot EMPTY = new WeatherSnapshot(new String[DAYS_IN_LEAP_YEAR], 0);
+
+    private final String[] weatherByDay;
+    private final int size;
+
+    private WeatherSnapshot(String[] weatherByDay, int size) {
+        this.weatherByDay = weatherByDay;
+        this.size = size;
+    }
+
+    public static WeatherSnapshot from(WeatherDto[] weatherArray) {
+        if (weatherArray == null || weatherArray.length == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        String[] weatherByDay = new String[DAYS_IN_LEAP_YEAR];
+        int size = 0;
+        for (WeatherDto weatherDto : weatherArray) {
+            int index = indexOf(weatherDto.getDate());
+            if (index < 0 || weatherDto.getWeather() == null) {
+                continue;
+            }
+            if (weatherByDay[index] == null) {
+                size++;
+            }
+            weatherByDay[index] = weatherDto.getWeather();
+        }
+        return new WeatherSnapshot(weatherByDay, size);
+    }
+
+    // 해당 날짜의 날씨, 없으면 null
+    public String get(LocalDate date) {
+        return weatherByDay[DAYS_BEFORE_MONTH[date.getMonthValue() - 1] + date.getDayOfMonth() - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * "MM-dd\t날씨" 형식으로 한 줄에 하루씩 기록합니다.
+     */
+    public void write(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 1; day <= DAYS_IN_MONTH[month - 1]; day++) {
+                    String weather = weatherByDay[DAYS_BEFORE_MONTH[month - 1] + day - 1];
+                    if (weather == null) {
+                        continue;
+                    }
+                    writer.write(String.format("%02d-%02d\t%s", month, day, weather.replaceAll("[\\t\\r\\n]", " ")));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    public static WeatherSnapshot read(Path path) throws IOException {
+        String[] weatherByDay = new String[DAYS_IN_LEAP_YEAR];
+        int size = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('\t');
+                if (separator < 0) {
+                    continue;
+                }
+                int index = indexOf(line.substring(0, separator));
+                if (index < 0) {
+                    continue;
+                }
+                if (weatherByDay[index] == null) {
+                    size++;
+                }
+                weatherByDay[index] = line.substring(separator + 1);
+            }
+        }
+        return new WeatherSnapshot(weatherByDay, size);
+    }
+
+    // "MM-dd" 를 배열 인덱스로 바꿉니다. 형식이 맞지 않으면 -1
+    private static int indexOf(String monthDay) {
+        if (monthDay == null || monthDay.length() != 5 || monthDay.charAt(2) != '-') {
+            return -1;
+        }
+        try {
+            int month = Integer.parseInt(monthDay.substring(0, 2));
+            int day = Integer.parseInt(monthDay.substring(3, 5));
+            if (month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1]) {
+                return -1;
+            }
+            return DAYS_BEFORE_MONTH[month - 1] + day - 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 날씨 스냅샷을 로컬 파일로 보관합니다. 네트워크 없이 재시작해도 마지막으로 받은 스냅샷으로 바로 응답할 수 있습니다.
+ */
+@Slf4j(topic = "WeatherSnapshotStore")
+@Component
+public class WeatherSnapshotStore {
+
+    private final Path path;
+
+    public WeatherSnapshotStore(@Value("${weather.snapshot.path:weather-snapshot.tsv}") String path) {
+        this.path = Paths.get(path);
+    }
+
+    // 파일이 없거나 읽을 수 없으면 빈 스냅샷을 돌려줍니다.
+    public WeatherSnapshot load() {
+        if (!Files.isReadable(path)) {
+            return WeatherSnapshot.EMPTY;
+        }
+        try {
+            WeatherSnapshot snapshot = WeatherSnapshot.read(path);
+            log.info("날씨 스냅샷을 불러왔습니다. path: {}, size: {}", path, snapshot.size());
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 읽지 못했습니다. path: {}", path, e);
+            return WeatherSnapshot.EMPTY;
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체해서 읽는 쪽이 반쯤 쓰인 파일을 보지 않도록 합니다.
+    public void save(WeatherSnapshot snapshot) {
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "weather-snapshot", ".tmp");
+            try {
+                snapshot.write(temp);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 저장하지 못했습니다. path: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.comment.dto.response.CommentListResponse;
+import org.example.expert.domain.common.support.RequestCoalescer;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+// 요청이 몰리는 조회에 대해 todoId 별 동시 조회를 하나로 묶습니다. 지표는 request.coalescing{name} 으로 나갑니다.
+// 복제본을 쓸 때 primary 에 고정된 사용자는 복제본이나 커밋 전 시점에서 읽은 다른 요청의 결과를 받지 않도록 묶지 않습니다.
+@Configuration
+public class CoalescingConfig {
+
+    @Bean
+    public RequestCoalescer<Long, TodoResponse> todoReadCoalescer(
+            @Value("${coalescing.max-wait-ms:5000}") long maxWaitMillis,
+            ObjectProvider<ReadYourWritesWindow> readYourWritesWindow
+    ) {
+        return new RequestCoalescer<>("todo", Duration.ofMillis(maxWaitMillis), pinnedToPrimary(readYourWritesWindow));
+    }
+
+    @Bean
+    public RequestCoalescer<Long, CommentListResponse> commentReadCoalescer(
+            @Value("${coalescing.max-wait-ms:5000}") long maxWaitMillis,
+            ObjectProvider<ReadYourWritesWindow> readYourWritesWindow
+    ) {
+        return new RequestCoalescer<>("comments", Duration.ofMillis(maxWaitMillis), pinnedToPrimary(readYourWritesWindow));
+    }
+
+    // 복제본 라우팅이 꺼져 있으면 ReadYourWritesWindow 가 없고, 모두 primary 에서 읽으므로 항상 묶습니다.
+    private BooleanSupplier pinnedToPrimary(ObjectProvider<ReadYourWritesWindow> readYourWritesWindow) {
+        ReadYourWritesWindow window = readYourWritesWindow.getIfAvailable();
+        if (window == null) {
+            return () -> false;
+        }
+        return window::isPinnedToPrimary;
+    }
+}
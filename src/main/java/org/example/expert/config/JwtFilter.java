@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
@@ -18,6 +19,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // 검증된 사용자 정보(AuthUser)를 요청 범위에 보관하는 attribute 이름
+    // ArgumentResolver, AOP 등은 토큰을 다시 파싱하지 않고 이 값을 읽어서 사용합니다.
+    public static final String AUTH_USER_ATTRIBUTE = AuthUser.class.getName();
+
     private final JwtUtil jwtUtil;
 
     @Override
@@ -57,9 +62,12 @@ public class JwtFilter implements Filter {
 
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            AuthUser authUser = new AuthUser(
+                    Long.parseLong(claims.getSubject()),
+                    (String) claims.get("email"),
+                    userRole
+            );
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
@@ -1,9 +1,16 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
@@ -12,26 +19,49 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JwtUtil")
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // 검증이 끝난 토큰의 claims 를 보관할 최대 개수
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // JwtParser 는 불변이고 thread-safe 하므로 한 번만 만들어 재사용합니다.
+    private JwtParser jwtParser;
+    // key 는 토큰 원문이 아닌 SHA-256 digest 이고, 각 엔트리는 토큰의 exp 시점에 만료됩니다.
+    private Cache<String, CachedClaims> claimsCache;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -55,11 +85,62 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    /**
+     * 서명 검증이 끝난 claims 를 반환합니다.
+     * 같은 토큰이 만료 전에 다시 들어오면 서명 검증과 디코딩 없이 캐시된 값으로 만듭니다.
+     * 캐시에는 바꿀 수 없는 사본을 두고 호출마다 새 Claims 를 돌려주므로, 호출한 쪽이 값을 바꿔도 다른 요청에 영향이 없습니다.
+     */
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String cacheKey = digest(token);
+
+        CachedClaims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Jwts.claims(cached.values());
+        }
+
+        // 검증에 실패하면 예외가 그대로 던져지므로 캐시에는 유효한 토큰만 들어갑니다.
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(cacheKey, new CachedClaims(Collections.unmodifiableMap(new LinkedHashMap<>(claims)), claims.getExpiration()));
+        return claims;
+    }
+
+    // cache.gets(hit/miss), cache.evictions 등의 지표를 jwt.claims 이름으로 노출합니다.
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, claimsCache, "jwt.claims");
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+
+    private record CachedClaims(Map<String, Object> values, Date expiration) {
+    }
+
+    private static class ClaimsExpiry implements Expiry<String, CachedClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedClaims claims, long currentTime) {
+            Date expiration = claims.expiration();
+            long ttlMillis = expiration == null
+                    ? TOKEN_TIME
+                    : expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 현재 하드웨어에서 지연 예산(latency budget) 안에 들어오는 가장 높은 BCrypt cost 를 골라 PasswordEncoder 에 설정합니다.
+ * 웹 서버가 요청을 받기 전에 실행되므로 첫 가입 요청부터 보정된 cost 가 적용됩니다.
+ */
+@Slf4j(topic = "PasswordCostCalibrator")
+@Component
+@RequiredArgsConstructor
+public class PasswordCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password1";
+    private static final int SAMPLES = 3;
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${password.bcrypt.latency-budget-ms:250}")
+    private long latencyBudgetMillis;
+    @Value("${password.bcrypt.min-cost:10}")
+    private int minCost;
+    @Value("${password.bcrypt.max-cost:16}")
+    private int maxCost;
+
+    @PostConstruct
+    public void calibrate() {
+        int selected = Math.max(minCost, BCrypt.MIN_COST);
+
+        // cost 가 1 오를 때마다 시간이 약 두 배가 되므로 예산을 넘는 순간 멈춥니다.
+        for (int cost = selected; cost <= Math.min(maxCost, BCrypt.MAX_COST); cost++) {
+            long elapsedMillis = measure(cost);
+            log.info("BCrypt cost {} : {}ms", cost, elapsedMillis);
+            if (elapsedMillis > latencyBudgetMillis) {
+                break;
+            }
+            selected = cost;
+        }
+
+        passwordEncoder.setCost(selected);
+        log.info("BCrypt cost 를 {} 로 설정했습니다. (예산 {}ms)", selected, latencyBudgetMillis);
+    }
+
+    // 여러 번 측정한 값 중 가장 빠른 값을 사용해 JIT/GC 잡음을 줄입니다.
+    private long measure(int cost) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hashToString(cost, SAMPLE_PASSWORD.toCharArray());
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
@@ -1,16 +1,77 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 public class PasswordEncoder {
 
+    // BCrypt 연산은 요청 스레드가 아닌 전용 풀에서 실행합니다.
+    private final PasswordHashingExecutor hashingExecutor;
+    // 기동 시 PasswordCostCalibrator 가 하드웨어에 맞는 값으로 올립니다.
+    private volatile int cost = BCrypt.MIN_COST;
+
+    public PasswordEncoder() {
+        this(new PasswordHashingExecutor());
+    }
+
+    @Autowired
+    public PasswordEncoder(PasswordHashingExecutor hashingExecutor) {
+        this.hashingExecutor = hashingExecutor;
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return hashingExecutor.execute(() -> hash(rawPassword));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        return hashingExecutor.execute(() -> verify(rawPassword, encodedPassword));
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return hashingExecutor.submit(() -> hash(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return hashingExecutor.submit(() -> verify(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 cost 보다 낮으면 true 를 반환합니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return extractCost(encodedPassword) < cost;
+    }
+
+    int getCost() {
+        return cost;
+    }
+
+    void setCost(int cost) {
+        this.cost = cost;
+    }
+
+    private String hash(String rawPassword) {
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+    }
+
+    // $2a$10$... 형식에서 cost 부분을 읽습니다. 형식이 다르면 재해싱 대상으로 봅니다.
+    private int extractCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return 0;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private boolean verify(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
@@ -0,0 +1,136 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱/검증만 담당하는 CPU 크기의 전용 스레드 풀입니다.
+ * 큐가 가득 차면 즉시 거절해서 로그인 폭주가 서블릿 스레드 전체를 붙잡지 않도록 합니다.
+ */
+@Slf4j(topic = "PasswordHashingExecutor")
+@Component
+public class PasswordHashingExecutor implements MeterBinder, DisposableBean {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 비밀번호를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder queueWaitCount = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    // 스프링 컨텍스트 밖(단위 테스트 등)에서 사용하는 기본 설정
+    public PasswordHashingExecutor() {
+        this(0, 64, 5000);
+    }
+
+    @Autowired
+    public PasswordHashingExecutor(
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hashing.wait-timeout-ms:5000}") long waitTimeoutMillis
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    /**
+     * 작업을 풀에 넣고 결과를 비동기로 돌려줍니다. 큐가 가득 차 있으면 바로 TooManyRequestsException 을 던집니다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitCount.increment();
+                queueWaitNanos.add(System.nanoTime() - submittedAt);
+                return task.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+        }
+    }
+
+    /**
+     * 작업을 풀에서 실행하고 최대 wait-timeout 만큼만 결과를 기다립니다.
+     */
+    public <T> T execute(Supplier<T> task) {
+        CompletableFuture<T> future = submit(task);
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("대기 중인 비밀번호 해싱 작업 수")
+                .register(registry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해싱 작업 수")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", rejectedCount, LongAdder::sum)
+                .description("큐 초과 또는 대기 시간 초과로 거절된 작업 수")
+                .register(registry);
+        FunctionTimer.builder("password.hashing.queue.wait", this,
+                        e -> e.queueWaitCount.sum(),
+                        e -> e.queueWaitNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("작업이 큐에서 대기한 시간")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,9 +1,50 @@
 package org.example.expert.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 엔티티 id 를 시퀀스(pooled)로 미리 받아 두므로 여러 건의 insert 를 테이블별 하나의 JDBC batch 로 묶을 수 있습니다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${persistence.jdbc.batch-size:50}") int batchSize
+    ) {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            properties.put("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    // MySQL 드라이버는 rewriteBatchedStatements 가 있어야 batch 를 multi-row insert 한 문장으로 보내고,
+    // useCursorFetch 가 있어야 fetch size 만큼씩 나눠 읽습니다. 없으면 export 같은 큰 조회의 결과 전체를 한 번에 받습니다.
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    applyMysqlProperties(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 빈으로 등록되지 않는 풀(읽기 복제본 등)도 같은 드라이버 옵션을 쓰도록 직접 호출할 수 있습니다.
+    public static void applyMysqlProperties(HikariDataSource dataSource) {
+        if (dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * 사용자가 쓰기 트랜잭션을 시작한 뒤 일정 시간 동안은 그 사용자의 읽기도 primary 로 보내
+ * 복제 지연 때문에 방금 쓴 내용이 안 보이는 일이 없도록 합니다.
+ * 기록은 이 인스턴스 메모리에만 있으므로 여러 서버에서는 사용자 단위 sticky 라우팅과 함께 써야 합니다.
+ */
+public class ReadYourWritesWindow {
+
+    // 0 이면 사용하지 않습니다.
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(long windowMillis) {
+        this.recentWriters = windowMillis > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofMillis(windowMillis))
+                        .maximumSize(100_000)
+                        .build()
+                : null;
+    }
+
+    public void recordWrite() {
+        if (recentWriters == null) {
+            return;
+        }
+        Long userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        if (recentWriters == null) {
+            return false;
+        }
+        Long userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    // JwtFilter 가 요청에 넣어 둔 사용자. 요청 밖(스케줄러, 스트리밍 응답 등)에서는 null 입니다.
+    private Long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object authUser = attributes.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return authUser instanceof AuthUser user ? user.getId() : null;
+    }
+}
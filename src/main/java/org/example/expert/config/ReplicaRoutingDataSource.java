@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * readOnly 트랜잭션은 복제본들에 돌아가며 보내고, 그 외에는 primary 로 보냅니다.
+ * 트랜잭션이 시작될 때가 아니라 첫 쿼리에서 커넥션을 얻어야 readOnly 여부가 정해져 있으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+@Slf4j(topic = "ReplicaRoutingDataSource")
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final LongAdder primaryCount = new LongAdder();
+    private final LongAdder replicaCount = new LongAdder();
+    private final LongAdder pinnedCount = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesWindow readYourWritesWindow) {
+        this.replicas = replicas;
+        this.readYourWritesWindow = readYourWritesWindow;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesWindow.recordWrite();
+            }
+            primaryCount.increment();
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty()) {
+            primaryCount.increment();
+            return PRIMARY;
+        }
+        if (readYourWritesWindow.isPinnedToPrimary()) {
+            pinnedCount.increment();
+            return PRIMARY;
+        }
+        replicaCount.increment();
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("datasource.routing", primaryCount, LongAdder::sum)
+                .description("라우팅된 커넥션 수")
+                .tag("target", "primary")
+                .register(registry);
+        FunctionCounter.builder("datasource.routing", replicaCount, LongAdder::sum)
+                .tag("target", "replica")
+                .register(registry);
+        FunctionCounter.builder("datasource.routing", pinnedCount, LongAdder::sum)
+                .tag("target", "primary-read-your-writes")
+                .register(registry);
+    }
+
+    // 복제본 풀은 빈이 아니므로 여기서 닫습니다. primary 는 컨테이너가 닫습니다.
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시를 서버 메모리(Caffeine JCache)에 둡니다.
+ * 영역은 여기서 크기와 TTL 을 정해 미리 만들고, 정의되지 않은 영역이 생기면 시작할 때 실패하도록 합니다.
+ * 적중률은 Hibernate 통계로 모아 actuator 의 hibernate.second.level.cache.* 지표로 노출됩니다.
+ * 캐시는 서버마다 따로 있고 서버 사이 무효화가 없으므로, 다른 서버의 변경은 TTL 이 지나야 보입니다.
+ * 그래서 TTL 을 짧게 두고, 로그인과 비밀번호/권한 변경처럼 최신 값이 필요한 곳은 캐시를 거치지 않고 읽습니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // JVM 기본 CacheManager 는 다른 컨텍스트와 공유되므로 컨텍스트마다 따로 만들고 함께 닫습니다.
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${persistence.cache.users.maximum-size:10000}") long usersMaximumSize,
+            @Value("${persistence.cache.users.ttl-seconds:60}") long usersTtlSeconds
+    ) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()),
+                SecondLevelCacheConfig.class.getClassLoader()
+        );
+        createRegion(cacheManager, User.CACHE_REGION, usersMaximumSize, usersTtlSeconds);
+        createRegion(cacheManager, User.NATURAL_ID_CACHE_REGION, usersMaximumSize, usersTtlSeconds);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${persistence.statistics.enabled:true}") boolean statisticsEnabled
+    ) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            properties.put("hibernate.generate_statistics", statisticsEnabled);
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maximumSize, long ttlSeconds) {
+        if (cacheManager.getCache(region) != null) {
+            throw new IllegalStateException("2차 캐시 영역이 이미 존재합니다: " + region);
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -9,14 +10,18 @@ import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.RegisteredEmailFilter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,6 +30,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -33,7 +39,9 @@ public class AuthService {
             throw new InvalidRequestException("이메일 값이 없습니다.");
         }
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // 필터가 없다고 확신하는 이메일은 DB 조회를 건너뛰고, 최종 중복 검사는 email unique 제약에 맡깁니다.
+        if (registeredEmailFilter.mightContain(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
@@ -46,7 +54,14 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            // 시퀀스 id 를 쓰면 insert 가 커밋 시점으로 미뤄지므로 중복 이메일 예외를 여기서 받도록 바로 flush 합니다.
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        registeredEmailFilter.put(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
@@ -54,7 +69,8 @@ public class AuthService {
     }
 
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
+        // 다른 서버에서 바뀐 비밀번호가 캐시 때문에 늦게 반영되지 않도록 DB 에서 직접 읽습니다.
+        User user = userRepository.findByEmailBypassingCache(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
@@ -62,8 +78,27 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            rehashInBackground(user.getId(), user.getPassword(), signinRequest.getPassword());
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
     }
+
+    // 예전 cost 로 저장된 해시를 현재 cost 로 다시 만들어 둡니다. 로그인 응답은 기다리지 않습니다.
+    private void rehashInBackground(Long userId, String oldPassword, String rawPassword) {
+        try {
+            passwordEncoder.encodeAsync(rawPassword)
+                    .thenAccept(newPassword -> userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword))
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 재해싱에 실패했습니다. userId={}", userId, e);
+                        return null;
+                    });
+        } catch (TooManyRequestsException e) {
+            // 해싱 풀이 바쁘면 이번 로그인에서는 건너뛰고 다음 로그인 때 다시 시도합니다.
+            log.debug("해싱 풀이 바빠 재해싱을 건너뜁니다. userId={}", userId);
+        }
+    }
 }
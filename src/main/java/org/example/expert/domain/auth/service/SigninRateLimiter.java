@@ -0,0 +1,133 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이메일, 클라이언트 IP 별 token bucket 으로 로그인 시도를 제한합니다.
+ * DB 조회와 BCrypt 검증 전에 호출되므로 credential stuffing 이 그대로 CPU 부하로 이어지지 않습니다.
+ */
+@Component
+public class SigninRateLimiter implements MeterBinder {
+
+    private static final String REJECT_MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Map<String, TokenBucket> emailBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+    private final int emailCapacity;
+    private final double emailRefillPerNano;
+    private final int ipCapacity;
+    private final double ipRefillPerNano;
+    private final long idleTimeoutNanos;
+
+    private final LongAdder emailRejected = new LongAdder();
+    private final LongAdder ipRejected = new LongAdder();
+
+    public SigninRateLimiter(
+            @Value("${auth.signin.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${auth.signin.rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+            @Value("${auth.signin.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.signin.rate-limit.ip.refill-per-minute:30}") int ipRefillPerMinute,
+            @Value("${auth.signin.rate-limit.idle-timeout-minutes:10}") long idleTimeoutMinutes
+    ) {
+        this.emailCapacity = emailCapacity;
+        this.emailRefillPerNano = (double) emailRefillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerNano = (double) ipRefillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.idleTimeoutNanos = TimeUnit.MINUTES.toNanos(idleTimeoutMinutes);
+    }
+
+    /**
+     * 허용되지 않는 시도라면 TooManyRequestsException 을 던집니다.
+     * IP 를 먼저 확인해서 여러 계정을 돌려가며 시도하는 경우도 빠르게 막습니다.
+     */
+    public void checkAllowed(String email, String clientIp) {
+        long now = System.nanoTime();
+
+        if (clientIp != null && !bucket(ipBuckets, clientIp, ipCapacity, ipRefillPerNano, now).tryConsume(now)) {
+            ipRejected.increment();
+            throw new TooManyRequestsException(REJECT_MESSAGE);
+        }
+
+        if (email != null) {
+            String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+            if (!bucket(emailBuckets, normalizedEmail, emailCapacity, emailRefillPerNano, now).tryConsume(now)) {
+                emailRejected.increment();
+                throw new TooManyRequestsException(REJECT_MESSAGE);
+            }
+        }
+    }
+
+    // idle-timeout 동안 사용되지 않은 bucket 은 이미 가득 찬 상태이므로 지워도 동작이 달라지지 않습니다.
+    @Scheduled(fixedDelayString = "${auth.signin.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        emailBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleTimeoutNanos));
+        ipBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleTimeoutNanos));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.signin.rejected", emailRejected, LongAdder::sum)
+                .tag("key", "email")
+                .description("이메일 기준 제한으로 거절된 로그인 시도 수")
+                .register(registry);
+        FunctionCounter.builder("auth.signin.rejected", ipRejected, LongAdder::sum)
+                .tag("key", "ip")
+                .description("IP 기준 제한으로 거절된 로그인 시도 수")
+                .register(registry);
+        Gauge.builder("auth.signin.buckets", emailBuckets, Map::size)
+                .tag("key", "email")
+                .register(registry);
+        Gauge.builder("auth.signin.buckets", ipBuckets, Map::size)
+                .tag("key", "ip")
+                .register(registry);
+    }
+
+    private TokenBucket bucket(Map<String, TokenBucket> buckets, String key, int capacity, double refillPerNano, long now) {
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerNano, now));
+    }
+
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(int capacity, double refillPerNano, long now) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerNano;
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        // bucket 단위로만 잠그므로 서로 다른 키의 요청끼리는 경쟁하지 않습니다.
+        synchronized boolean tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean isIdle(long now, long idleTimeoutNanos) {
+            return now - lastRefillNanos > idleTimeoutNanos;
+        }
+    }
+}
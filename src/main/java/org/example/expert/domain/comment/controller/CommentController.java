@@ -3,13 +3,17 @@ package org.example.expert.domain.comment.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentListResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentScrollResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +22,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final TodoChangeTracker todoChangeTracker;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -29,7 +34,28 @@ public class CommentController {
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        // 댓글이 바뀌면 일정 revision 이 올라가므로 같은 ETag 를 사용합니다.
+        // 함께 묶인 조회의 결과는 이전 시점의 값일 수 있으므로, ETag 는 댓글과 같은 조회에서 읽은 revision 으로 만듭니다.
+        CommentListResponse commentList = commentService.getComments(todoId);
+        Long revision = commentList.getRevision();
+        if (revision != null && webRequest.checkNotModified(TodoChangeTracker.todoEtag(todoId, revision))) {
+            return null;
+        }
+        return ResponseEntity.ok(commentList.getComments());
+    }
+
+    // 댓글이 많은 일정은 전체 목록 대신 cursor 로 나눠 읽습니다.
+    @GetMapping("/todos/{todoId}/comments/scroll")
+    public ResponseEntity<CommentScrollResponse> scrollComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(todoChangeTracker.todoEtag(todoId))) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.scrollComments(todoId, cursor, size));
     }
 }
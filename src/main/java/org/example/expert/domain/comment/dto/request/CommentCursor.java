@@ -0,0 +1,34 @@
+package org.example.expert.domain.comment.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 마지막으로 받은 댓글의 id 위치입니다.
+ * 클라이언트에는 내용을 알 수 없는 Base64 문자열로만 전달합니다.
+ */
+@Getter
+public class CommentCursor {
+
+    private final Long id;
+
+    public CommentCursor(Long id) {
+        this.id = id;
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new CommentCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+    }
+}
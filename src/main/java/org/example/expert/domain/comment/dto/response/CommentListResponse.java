@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentListResponse {
+
+    // 댓글보다 먼저 읽은 일정 revision. ETag 로 쓰며, 일정이 없으면 null
+    private final Long revision;
+    private final List<CommentResponse> comments;
+
+    public CommentListResponse(Long revision, List<CommentResponse> comments) {
+        this.revision = revision;
+        this.comments = comments;
+    }
+}
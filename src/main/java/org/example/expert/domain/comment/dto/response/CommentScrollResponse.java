@@ -0,0 +1,20 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentScrollResponse {
+
+    private final List<CommentResponse> contents;
+    // 다음 요청에 그대로 넘기는 값. 마지막 페이지면 null
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CommentScrollResponse(List<CommentResponse> contents, String nextCursor, boolean hasNext) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -2,6 +2,8 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +12,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TodoChangeTracker todoChangeTracker;
 
     @Transactional
     public void deleteComment(long commentId) {
+        // 댓글이 지워지면 어느 일정의 댓글이었는지 알 수 없으므로 먼저 일정을 찾아 둡니다.
+        commentRepository.findTodoIdById(commentId).ifPresent(todoId -> {
+            todoRepository.addCommentCount(todoId, -1);
+            todoChangeTracker.touch(todoId);
+        });
         commentRepository.deleteById(commentId);
     }
 }
@@ -2,22 +2,29 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.request.CommentCursor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentListResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentScrollResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.support.RequestCoalescer;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -26,8 +33,12 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoChangeTracker todoChangeTracker;
+    private final RequestCoalescer<Long, CommentListResponse> commentReadCoalescer;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -46,6 +57,8 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todo.getId(), 1);
+        todoChangeTracker.touch(todo.getId());
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -54,19 +67,46 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    /**
+     * 댓글을 id 순서로 size 개씩 읽습니다. 요청마다 한 페이지만 메모리에 올라갑니다.
+     * cursor 가 없으면 처음부터, 있으면 그 댓글 다음부터 읽습니다.
+     */
+    public CommentScrollResponse scrollComments(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 읽습니다.
+        Limit limit = Limit.of(size + 1);
+        List<CommentResponse> comments;
+        if (StringUtils.hasText(cursor)) {
+            CommentCursor commentCursor = CommentCursor.decode(cursor);
+            comments = commentRepository.findNextResponsesByTodoId(todoId, commentCursor.getId(), limit);
+        } else {
+            comments = commentRepository.findFirstResponsesByTodoId(todoId, limit);
+        }
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
         }
-        return dtoList;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = new CommentCursor(comments.get(comments.size() - 1).getId()).encode();
+        }
+
+        return new CommentScrollResponse(comments, nextCursor, hasNext);
+    }
+
+    // 같은 일정의 댓글을 동시에 읽는 요청은 하나의 조회 결과를 함께 받습니다.
+    // 기다리는 요청이 커넥션을 잡고 있지 않도록 트랜잭션은 저장소 조회에서만 엽니다.
+    // 함께 받은 결과가 이전 시점의 값일 수 있으므로 ETag 용 revision 도 같은 조회에서 댓글보다 먼저 읽습니다.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CommentListResponse getComments(long todoId) {
+        return commentReadCoalescer.load(todoId, () -> {
+            Long revision = todoRepository.findRevisionById(todoId).orElse(null);
+            return new CommentListResponse(revision, List.copyOf(commentRepository.findResponsesByTodoId(todoId)));
+        });
     }
 }
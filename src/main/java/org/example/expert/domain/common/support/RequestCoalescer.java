@@ -0,0 +1,143 @@
+package org.example.expert.domain.common.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 묶습니다.
+ * 먼저 온 요청이 조회를 실행하고, 그동안 들어온 요청은 같은 결과(또는 예외)를 기다렸다가 함께 받습니다.
+ * 조회가 끝나면 성공, 실패와 관계없이 바로 지우므로 결과를 캐시하지 않습니다.
+ * 기다리는 요청은 maxWait 까지만 기다리고, 그 뒤에는 직접 조회합니다.
+ * bypass 가 true 인 요청(예: read-your-writes 로 primary 에 고정된 사용자)은 다른 요청의 조회에 합치지 않습니다.
+ */
+@Slf4j(topic = "RequestCoalescer")
+public class RequestCoalescer<K, V> implements MeterBinder {
+
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5);
+
+    private final String name;
+    private final Duration maxWait;
+    private final BooleanSupplier bypass;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loadedCount = new LongAdder();
+    private final LongAdder collapsedCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+    private final LongAdder bypassedCount = new LongAdder();
+
+    public RequestCoalescer(String name) {
+        this(name, DEFAULT_MAX_WAIT);
+    }
+
+    public RequestCoalescer(String name, Duration maxWait) {
+        this(name, maxWait, () -> false);
+    }
+
+    public RequestCoalescer(String name, Duration maxWait, BooleanSupplier bypass) {
+        this.name = name;
+        this.maxWait = maxWait;
+        this.bypass = bypass;
+    }
+
+    public boolean isBypassed() {
+        return bypass.getAsBoolean();
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        if (isBypassed()) {
+            bypassedCount.increment();
+            return loader.get();
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            collapsedCount.increment();
+            return join(existing, loader);
+        }
+
+        loadedCount.increment();
+        V value;
+        try {
+            value = loader.get();
+        } catch (Throwable e) {
+            // Error 도 기다리는 요청에 전달해야 영원히 기다리지 않습니다.
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 끝난 뒤에 온 요청은 새로 조회하도록 결과를 알리기 전에 먼저 지웁니다.
+            inFlight.remove(key, future);
+        }
+        future.complete(value);
+        return value;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("request.coalescing", loadedCount, LongAdder::sum)
+                .description("직접 조회를 실행한 요청 수")
+                .tag("name", name)
+                .tag("result", "loaded")
+                .register(registry);
+        FunctionCounter.builder("request.coalescing", collapsedCount, LongAdder::sum)
+                .description("진행 중인 조회에 합쳐진 요청 수")
+                .tag("name", name)
+                .tag("result", "collapsed")
+                .register(registry);
+        FunctionCounter.builder("request.coalescing", timedOutCount, LongAdder::sum)
+                .description("기다리다 직접 조회한 요청 수")
+                .tag("name", name)
+                .tag("result", "timed-out")
+                .register(registry);
+        FunctionCounter.builder("request.coalescing", bypassedCount, LongAdder::sum)
+                .description("묶지 않고 따로 조회한 요청 수")
+                .tag("name", name)
+                .tag("result", "bypassed")
+                .register(registry);
+        Gauge.builder("request.coalescing.in-flight", inFlight, ConcurrentHashMap::size)
+                .tag("name", name)
+                .register(registry);
+    }
+
+    long getCollapsedCount() {
+        return collapsedCount.sum();
+    }
+
+    long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    private V join(CompletableFuture<V> future, Supplier<V> loader) {
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            timedOutCount.increment();
+            log.warn("{} 조회를 {}ms 동안 기다리지 못해 직접 조회합니다.", name, maxWait.toMillis());
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회를 기다리는 중 중단되었습니다.", e);
+        }
+    }
+}
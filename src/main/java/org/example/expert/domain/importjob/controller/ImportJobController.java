@@ -0,0 +1,45 @@
+package org.example.expert.domain.importjob.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.importjob.dto.response.ImportJobResponse;
+import org.example.expert.domain.importjob.enums.ImportFormat;
+import org.example.expert.domain.importjob.enums.ImportKind;
+import org.example.expert.domain.importjob.service.ImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportService importService;
+
+    // 본문은 NDJSON(한 줄에 하나씩) 또는 헤더가 있는 CSV 입니다. 읽는 대로 chunk 단위로 저장합니다.
+    @PostMapping(value = "/admin/imports/todos", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<ImportJobResponse> importTodos(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importService.startImport(ImportKind.TODO, ImportFormat.of(request.getContentType()), request.getInputStream()));
+    }
+
+    @PostMapping(value = "/admin/imports/comments", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<ImportJobResponse> importComments(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importService.startImport(ImportKind.COMMENT, ImportFormat.of(request.getContentType()), request.getInputStream()));
+    }
+
+    // 멈춘 작업에 같은 파일을 다시 올리면 마지막으로 커밋된 chunk 다음 행부터 이어서 가져옵니다.
+    @PostMapping(value = "/admin/imports/{jobId}/resume", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<ImportJobResponse> resumeImport(
+            @PathVariable long jobId,
+            HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(importService.resumeImport(jobId, ImportFormat.of(request.getContentType()), request.getInputStream()));
+    }
+
+    @GetMapping("/admin/imports/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable long jobId) {
+        return ResponseEntity.ok(importService.getImportJob(jobId));
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.importjob.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentImportRow implements ImportRow {
+
+    @NotNull
+    private Long todoId;
+    @NotBlank
+    private String contents;
+    @NotBlank
+    private String authorEmail;
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.importjob.dto.request;
+
+// 가져올 행마다 작성자를 이메일로 지정합니다. chunk 단위로 모아 IN 조회 한 번으로 찾습니다.
+public interface ImportRow {
+
+    String getAuthorEmail();
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.importjob.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRow implements ImportRow {
+
+    @NotBlank
+    private String title;
+    @NotBlank
+    private String contents;
+    @NotBlank
+    private String weather;
+    @NotBlank
+    private String authorEmail;
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.importjob.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.importjob.entity.ImportJob;
+import org.example.expert.domain.importjob.enums.ImportKind;
+import org.example.expert.domain.importjob.enums.ImportStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ImportJobResponse {
+
+    private final Long id;
+    private final ImportKind kind;
+    private final ImportStatus status;
+    private final long processedRows;
+    private final long importedRows;
+    private final long failedRows;
+    private final String lastError;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public ImportJobResponse(ImportJob job) {
+        this.id = job.getId();
+        this.kind = job.getKind();
+        this.status = job.getStatus();
+        this.processedRows = job.getProcessedRows();
+        this.importedRows = job.getImportedRows();
+        this.failedRows = job.getFailedRows();
+        this.lastError = job.getLastError();
+        this.createdAt = job.getCreatedAt();
+        this.modifiedAt = job.getModifiedAt();
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.importjob.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.importjob.enums.ImportKind;
+import org.example.expert.domain.importjob.enums.ImportStatus;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "import_jobs")
+public class ImportJob extends Timestamped {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_jobs_seq")
+    @SequenceGenerator(name = "import_jobs_seq", sequenceName = "import_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    // 커밋된 chunk 까지 읽은 행 수. 이어서 가져올 때 이만큼 건너뜁니다.
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public ImportJob(ImportKind kind) {
+        this.kind = kind;
+        this.status = ImportStatus.RUNNING;
+    }
+
+    // chunk 저장과 같은 트랜잭션에서 호출해야 진행 상황과 저장된 데이터가 어긋나지 않습니다.
+    public void commitChunk(int rows, int imported, int failed, String error) {
+        this.processedRows += rows;
+        this.importedRows += imported;
+        this.failedRows += failed;
+        if (error != null) {
+            this.lastError = truncate(error);
+        }
+    }
+
+    public void resume() {
+        this.status = ImportStatus.RUNNING;
+        this.lastError = null;
+    }
+
+    public void complete() {
+        this.status = ImportStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.status = ImportStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
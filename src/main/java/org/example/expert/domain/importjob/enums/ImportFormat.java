@@ -0,0 +1,23 @@
+package org.example.expert.domain.importjob.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    NDJSON, CSV;
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    public static ImportFormat of(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+                return NDJSON;
+            }
+            if (TEXT_CSV.isCompatibleWith(mediaType)) {
+                return CSV;
+            }
+        }
+        throw new InvalidRequestException("NDJSON 또는 CSV 파일만 가져올 수 있습니다.");
+    }
+}
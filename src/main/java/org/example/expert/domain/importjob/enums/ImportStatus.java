@@ -0,0 +1,5 @@
+package org.example.expert.domain.importjob.enums;
+
+public enum ImportStatus {
+    RUNNING, COMPLETED, FAILED
+}
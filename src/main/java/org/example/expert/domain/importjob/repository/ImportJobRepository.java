@@ -0,0 +1,18 @@
+package org.example.expert.domain.importjob.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.importjob.entity.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // 같은 작업을 두 요청이 동시에 이어 가지 않도록 chunk 를 커밋할 때마다 행 잠금을 잡습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ImportJob j WHERE j.id = :jobId")
+    Optional<ImportJob> findForUpdateById(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,310 @@
+package org.example.expert.domain.importjob.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.importjob.dto.request.CommentImportRow;
+import org.example.expert.domain.importjob.dto.request.ImportRow;
+import org.example.expert.domain.importjob.dto.request.TodoImportRow;
+import org.example.expert.domain.importjob.dto.response.ImportJobResponse;
+import org.example.expert.domain.importjob.entity.ImportJob;
+import org.example.expert.domain.importjob.enums.ImportFormat;
+import org.example.expert.domain.importjob.enums.ImportKind;
+import org.example.expert.domain.importjob.enums.ImportStatus;
+import org.example.expert.domain.importjob.repository.ImportJobRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이전 시스템의 일정/댓글을 NDJSON 또는 CSV 파일에서 읽어 chunk 단위로 저장합니다.
+ * - 본문은 한 행씩 읽고, chunk 마다 작성자를 이메일 IN 조회 한 번으로 찾습니다.
+ * - chunk 저장과 작업 진행 상황은 같은 트랜잭션으로 커밋되므로, 실패한 작업은 같은 파일로 마지막 커밋 지점부터 이어서 가져올 수 있습니다.
+ * - 형식이 틀리거나 작성자/일정이 없는 행은 건너뛰고 실패 건수로만 남깁니다.
+ */
+@Slf4j(topic = "ImportService")
+@Service
+public class ImportService {
+
+    private final ImportJobRepository importJobRepository;
+    private final UserRepository userRepository;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TodoChangeTracker todoChangeTracker;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ImportService(
+            ImportJobRepository importJobRepository,
+            UserRepository userRepository,
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            EntityManager entityManager,
+            Validator validator,
+            TodoChangeTracker todoChangeTracker,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${import.chunk-size:1000}") int chunkSize
+    ) {
+        this.importJobRepository = importJobRepository;
+        this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.todoChangeTracker = todoChangeTracker;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportJobResponse startImport(ImportKind kind, ImportFormat format, InputStream inputStream) {
+        ImportJob job = importJobRepository.save(new ImportJob(kind));
+        return run(job.getId(), kind, 0, format, inputStream);
+    }
+
+    // 실패했거나 서버가 내려가 멈춘 작업을 같은 파일로 이어서 가져옵니다. 이미 커밋된 행 수만큼은 읽고 버립니다.
+    public ImportJobResponse resumeImport(long jobId, ImportFormat format, InputStream inputStream) {
+        ImportJob job = transactionTemplate.execute(status -> {
+            ImportJob found = findForUpdate(jobId);
+            if (found.getStatus() == ImportStatus.COMPLETED) {
+                throw new InvalidRequestException("이미 완료된 import 입니다.");
+            }
+            found.resume();
+            return found;
+        });
+        return run(jobId, job.getKind(), job.getProcessedRows(), format, inputStream);
+    }
+
+    public ImportJobResponse getImportJob(long jobId) {
+        return importJobRepository.findById(jobId)
+                .map(ImportJobResponse::new)
+                .orElseThrow(() -> new InvalidRequestException("Import job not found"));
+    }
+
+    private ImportJobResponse run(long jobId, ImportKind kind, long skipRows, ImportFormat format, InputStream inputStream) {
+        Class<? extends ImportRow> rowType = kind == ImportKind.TODO ? TodoImportRow.class : CommentImportRow.class;
+        long committedRows = skipRows;
+        long rowNumber = 0;
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<ImportRow> rows = openRows(format, rowType, inputStream)) {
+            while (true) {
+                ImportRow row;
+                try {
+                    if (!rows.hasNext()) {
+                        break;
+                    }
+                    row = rows.next();
+                } catch (RuntimeException e) {
+                    // 읽은 데까지는 커밋해 두고 멈춥니다. 파일을 고친 뒤 이어서 가져오면 됩니다.
+                    commitChunk(jobId, kind, committedRows, chunk);
+                    return finish(jobId, (rowNumber + 1) + " 번째 행을 읽을 수 없습니다. " + e.getMessage());
+                }
+
+                rowNumber++;
+                if (rowNumber <= skipRows) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    committedRows = commitChunk(jobId, kind, committedRows, chunk);
+                    chunk.clear();
+                }
+            }
+            commitChunk(jobId, kind, committedRows, chunk);
+            return finish(jobId, null);
+        } catch (InvalidRequestException e) {
+            throw e;
+        } catch (IOException e) {
+            return finish(jobId, "파일을 읽을 수 없습니다. " + e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("import {} 의 chunk 저장에 실패했습니다.", jobId, e);
+            return finish(jobId, "저장에 실패했습니다. " + e.getMessage());
+        }
+    }
+
+    private MappingIterator<ImportRow> openRows(ImportFormat format, Class<? extends ImportRow> rowType, InputStream inputStream) throws IOException {
+        ObjectReader reader = format == ImportFormat.CSV
+                ? csvMapper.readerFor(rowType).with(CsvSchema.emptySchema().withHeader())
+                : objectMapper.readerFor(rowType);
+        return reader.readValues(inputStream);
+    }
+
+    /**
+     * chunk 의 행 저장과 작업 진행 상황 갱신을 한 트랜잭션으로 커밋합니다.
+     * @return 커밋 후 작업이 처리한 전체 행 수
+     */
+    private long commitChunk(long jobId, ImportKind kind, long committedRows, List<ImportRow> chunk) {
+        if (chunk.isEmpty()) {
+            return committedRows;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            ImportJob job = findForUpdate(jobId);
+            if (job.getProcessedRows() != committedRows) {
+                throw new InvalidRequestException("다른 요청이 같은 import 를 진행하고 있습니다.");
+            }
+
+            ChunkResult result = new ChunkResult(committedRows);
+            if (kind == ImportKind.TODO) {
+                saveTodos(chunk, result);
+            } else {
+                saveComments(chunk, result);
+            }
+            job.commitChunk(chunk.size(), result.imported, result.failed, result.lastError);
+
+            entityManager.flush();
+            // 저장한 엔티티가 영속성 컨텍스트에 계속 쌓이지 않도록 chunk 마다 비웁니다.
+            entityManager.clear();
+        });
+        return committedRows + chunk.size();
+    }
+
+    private void saveTodos(List<ImportRow> chunk, ChunkResult result) {
+        Map<Integer, TodoImportRow> validRows = validate(chunk, TodoImportRow.class, result);
+        Map<String, User> authors = findAuthors(validRows.values());
+
+        List<Todo> todos = new ArrayList<>(validRows.size());
+        validRows.forEach((index, row) -> {
+            User author = authors.get(row.getAuthorEmail());
+            if (author == null) {
+                result.fail(index, "작성자를 찾을 수 없습니다. " + row.getAuthorEmail());
+                return;
+            }
+            todos.add(new Todo(row.getTitle(), row.getContents(), row.getWeather(), author));
+        });
+
+        todoRepository.saveAll(todos);
+        result.imported += todos.size();
+        if (!todos.isEmpty()) {
+            todoChangeTracker.collectionChanged();
+        }
+    }
+
+    private void saveComments(List<ImportRow> chunk, ChunkResult result) {
+        Map<Integer, CommentImportRow> validRows = validate(chunk, CommentImportRow.class, result);
+        Map<String, User> authors = findAuthors(validRows.values());
+        Set<Long> todoIds = validRows.values().stream().map(CommentImportRow::getTodoId).collect(Collectors.toSet());
+        Set<Long> existingTodoIds = todoIds.isEmpty() ? Set.of() : new HashSet<>(todoRepository.findExistingIds(todoIds));
+
+        List<Comment> comments = new ArrayList<>(validRows.size());
+        Map<Long, Integer> addedByTodo = new HashMap<>();
+        validRows.forEach((index, row) -> {
+            User author = authors.get(row.getAuthorEmail());
+            if (author == null) {
+                result.fail(index, "작성자를 찾을 수 없습니다. " + row.getAuthorEmail());
+                return;
+            }
+            if (!existingTodoIds.contains(row.getTodoId())) {
+                result.fail(index, "일정을 찾을 수 없습니다. " + row.getTodoId());
+                return;
+            }
+            comments.add(new Comment(row.getContents(), author, entityManager.getReference(Todo.class, row.getTodoId())));
+            addedByTodo.merge(row.getTodoId(), 1, Integer::sum);
+        });
+
+        commentRepository.saveAll(comments);
+        result.imported += comments.size();
+        if (addedByTodo.isEmpty()) {
+            return;
+        }
+        // 댓글 수와 revision 은 늘어난 댓글 수가 같은 일정끼리 묶어 update 한 번으로 올리고, 변경 기록은 한 번에 저장합니다.
+        Map<Integer, List<Long>> todoIdsByAdded = addedByTodo.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        todoIdsByAdded.forEach((added, ids) -> todoRepository.addCommentCountAndIncrementRevision(ids, added));
+        todoChangeTracker.recordChanges(addedByTodo.keySet());
+    }
+
+    // 검증을 통과한 행만 chunk 안의 위치와 함께 돌려줍니다.
+    private <T extends ImportRow> Map<Integer, T> validate(List<ImportRow> chunk, Class<T> rowType, ChunkResult result) {
+        Map<Integer, T> validRows = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            if (row == null) {
+                result.fail(i, "빈 행입니다.");
+                continue;
+            }
+            Set<ConstraintViolation<ImportRow>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<ImportRow> violation = violations.iterator().next();
+                result.fail(i, violation.getPropertyPath() + " " + violation.getMessage());
+                continue;
+            }
+            validRows.put(i, rowType.cast(row));
+        }
+        return validRows;
+    }
+
+    private Map<String, User> findAuthors(Collection<? extends ImportRow> rows) {
+        Set<String> emails = rows.stream().map(ImportRow::getAuthorEmail).collect(Collectors.toSet());
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+    }
+
+    private ImportJobResponse finish(long jobId, String error) {
+        ImportJob job = transactionTemplate.execute(status -> {
+            ImportJob found = findForUpdate(jobId);
+            if (error == null) {
+                found.complete();
+            } else {
+                found.fail(error);
+            }
+            return found;
+        });
+        if (error != null) {
+            log.warn("import {} 을 {} 행까지 처리하고 멈췄습니다. {}", jobId, job.getProcessedRows(), error);
+        }
+        return new ImportJobResponse(job);
+    }
+
+    private ImportJob findForUpdate(long jobId) {
+        return importJobRepository.findForUpdateById(jobId)
+                .orElseThrow(() -> new InvalidRequestException("Import job not found"));
+    }
+
+    // chunk 하나의 결과. 실패한 행 번호는 파일 전체 기준으로 남깁니다.
+    private static class ChunkResult {
+
+        private final long firstRowNumber;
+        private int imported;
+        private int failed;
+        private String lastError;
+
+        private ChunkResult(long committedRows) {
+            this.firstRowNumber = committedRows + 1;
+        }
+
+        private void fail(int index, String error) {
+            failed++;
+            lastError = (firstRowNumber + index) + " 번째 행: " + error;
+        }
+    }
+}
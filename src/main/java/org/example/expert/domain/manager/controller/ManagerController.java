@@ -10,8 +10,10 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +23,7 @@ public class ManagerController {
 
     private final ManagerService managerService;
     private final JwtUtil jwtUtil;
+    private final TodoChangeTracker todoChangeTracker;
 
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -32,7 +35,10 @@ public class ManagerController {
     }
 
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(todoChangeTracker.todoEtag(todoId))) {
+            return null;
+        }
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
@@ -1,22 +1,37 @@
 package org.example.expert.domain.todo.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
+import org.example.expert.domain.todo.service.TodoBulkService;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBulkService todoBulkService;
+    private final TodoChangeTracker todoChangeTracker;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +41,69 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // JSON 배열이나 NDJSON(한 줄에 하나씩) 본문을 읽는 대로 chunk 단위로 저장하고 항목별 결과를 돌려줍니다.
+    @PostMapping(value = "/todos/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            HttpServletRequest request
+    ) throws IOException {
+        try (MappingIterator<TodoSaveRequest> requests = objectMapper.readerFor(TodoSaveRequest.class)
+                .readValues(request.getInputStream())) {
+            return ResponseEntity.ok(todoBulkService.saveTodos(authUser, requests));
+        }
+    }
+
+    // withTotal=false 면 전체 개수 없이 다음 페이지 여부만 담은 Slice 를 돌려줍니다.
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Slice<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest
     ) {
+        // If-None-Match 가 현재 버전과 같으면 조회 없이 304 를 돌려줍니다.
+        if (webRequest.checkNotModified(todoChangeTracker.collectionEtag())) {
+            return null;
+        }
+        if (!withTotal) {
+            return ResponseEntity.ok(todoService.getTodoSlice(page, size));
+        }
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping("/todos/scroll")
+    public ResponseEntity<TodoScrollResponse> scrollTodos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(todoChangeTracker.collectionEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok(todoService.scrollTodos(cursor, size));
+    }
+
+    // 캐시나 함께 묶인 조회에서 받은 응답이 이전 시점의 값일 수 있으므로, ETag 는 받은 응답의 revision 으로 만듭니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        TodoResponse todo = todoService.getTodo(todoId);
+        if (webRequest.checkNotModified(TodoChangeTracker.todoEtag(todoId, todo.getRevision()))) {
+            return null;
+        }
+        return ResponseEntity.ok(todo);
+    }
+
+    // 일정 화면에 필요한 일정, 댓글, 담당자를 한 번의 요청으로 돌려줍니다.
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "1") int commentPage,
+            @RequestParam(defaultValue = "10") int commentSize,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(todoChangeTracker.todoEtag(todoId))) {
+            return null;
+        }
+        return ResponseEntity.ok(todoService.getTodoDetail(todoId, commentPage, commentSize));
     }
 }
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoBulkItemResponse {
+
+    // 요청 본문에서의 순서 (0부터)
+    private final int index;
+    private final Long id;
+    private final String error;
+
+    private TodoBulkItemResponse(int index, Long id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static TodoBulkItemResponse success(int index, Long id) {
+        return new TodoBulkItemResponse(index, id, null);
+    }
+
+    public static TodoBulkItemResponse failure(int index, String error) {
+        return new TodoBulkItemResponse(index, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    private final int succeeded;
+    private final int failed;
+    private final List<TodoBulkItemResponse> results;
+
+    public TodoBulkSaveResponse(List<TodoBulkItemResponse> results) {
+        this.succeeded = (int) results.stream().filter(result -> result.getError() == null).count();
+        this.failed = results.size() - succeeded;
+        this.results = results;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.todo.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
@@ -15,8 +16,21 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final int commentCount;
+    private final int managerCount;
+    // ETag 를 응답 본문과 같은 시점의 값으로 만들기 위해 함께 읽습니다. 응답 JSON 에는 넣지 않습니다.
+    @JsonIgnore
+    private final long revision;
 
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, 0, 0);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, commentCount, managerCount, 0);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount, long revision) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +38,18 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.revision = revision;
+    }
+
+    // JPQL constructor projection 용
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt, commentCount, managerCount);
+    }
+
+    // JPQL constructor projection 용
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount, long revision) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt, commentCount, managerCount, revision);
     }
 }
@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,22 +16,39 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@EntityListeners(TodoCountListener.class)
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt, id"))
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 목록에서 컬렉션을 건드리지 않고 보여주기 위한 개수. 댓글/담당자 저장·삭제 트랜잭션에서 함께 갱신합니다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int managerCount;
+    // 일정과 댓글/담당자가 바뀔 때마다 올라가는 값. 조회 ETag 에 사용합니다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long revision;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 여러 일정의 컬렉션을 초기화할 때 일정마다 쿼리가 나가지 않도록 IN 으로 묶어서 읽습니다.
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
     private List<Comment> comments = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
@@ -39,5 +58,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 }
@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정이 바뀌었다는 기록. 각 서버가 주기적으로 읽어 자기 near cache 에서 해당 일정을 지웁니다.
+ * 메시지 브로커 없이 DB 만으로 서버 간 무효화를 전달하기 위한 테이블이며, 오래된 행은 주기적으로 지웁니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_change_log", indexes = @Index(name = "idx_todo_change_log_changed_at", columnList = "changedAt"))
+public class TodoChangeLog {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_change_log_seq")
+    @SequenceGenerator(name = "todo_change_log_seq", sequenceName = "todo_change_log_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long todoId;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public TodoChangeLog(Long todoId, LocalDateTime changedAt) {
+        this.todoId = todoId;
+        this.changedAt = changedAt;
+    }
+}
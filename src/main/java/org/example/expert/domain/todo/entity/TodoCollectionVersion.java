@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 목록 ETag 에 쓰는 버전. 모든 서버가 같은 행 하나를 보므로 어느 서버에서 바뀐 목록도 ETag 에 반영됩니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_collection_version")
+public class TodoCollectionVersion {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+
+    public TodoCollectionVersion(Long id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoCounter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 일정 저장/삭제를 TodoCounter 에 반영합니다. 롤백된 변경이 섞이지 않도록 커밋 이후에 반영합니다.
+ */
+@RequiredArgsConstructor
+public class TodoCountListener {
+
+    private final TodoCounter todoCounter;
+
+    @PostPersist
+    public void onPersist(Todo todo) {
+        afterCommit(todoCounter::increment);
+    }
+
+    @PostRemove
+    public void onRemove(Todo todo) {
+        afterCommit(todoCounter::decrement);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
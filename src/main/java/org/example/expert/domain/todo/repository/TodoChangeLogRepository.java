@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TodoChangeLogRepository extends JpaRepository<TodoChangeLog, Long> {
+
+    @Query("SELECT DISTINCT l.todoId FROM TodoChangeLog l WHERE l.changedAt >= :since")
+    List<Long> findTodoIdsChangedSince(@Param("since") LocalDateTime since);
+
+    // 호출한 트랜잭션이 커밋되기 직전에 실행합니다.
+    @Modifying
+    @Query("UPDATE TodoChangeLog l SET l.changedAt = :changedAt WHERE l.id IN :ids")
+    int stampChangedAt(@Param("ids") Collection<Long> ids, @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TodoChangeLog l WHERE l.changedAt < :before")
+    int deleteChangedBefore(@Param("before") LocalDateTime before);
+}
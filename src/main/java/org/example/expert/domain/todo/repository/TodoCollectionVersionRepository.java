@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoCollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface TodoCollectionVersionRepository extends JpaRepository<TodoCollectionVersion, Long> {
+
+    // 쓰기 트랜잭션이 커밋된 뒤에 따로 실행합니다. 행 잠금을 문장 하나 동안만 잡아 일정 쓰기끼리 줄 서지 않게 합니다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE TodoCollectionVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+    int increment(@Param("id") Long id);
+
+    @Query("SELECT v.version FROM TodoCollectionVersion v WHERE v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+}
@@ -1,23 +1,80 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 API 는 엔티티 대신 응답에 필요한 컬럼만 DTO 로 바로 읽어 영속성 컨텍스트 스냅샷과 프록시 생성을 피합니다.
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.commentCount, t.managerCount, t.revision) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    // 전체 개수는 TodoCounter 로 따로 구하므로 count 쿼리 없이 Slice 로 조회합니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    // cursor 조회는 count 쿼리 없이 (modifiedAt, id) 인덱스 순서대로 limit 만큼만 읽습니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstByCursor(Limit limit);
+
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findNextByCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Limit limit);
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Todo t SET t.revision = t.revision + 1 WHERE t.id = :todoId")
+    int incrementRevision(@Param("todoId") Long todoId);
+
+    // 여러 일정의 댓글 수를 같은 값만큼 올리면서 revision 도 함께 올립니다. import 처럼 한꺼번에 바꿀 때 씁니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta, t.revision = t.revision + 1 WHERE t.id IN :todoIds")
+    int addCommentCountAndIncrementRevision(@Param("todoIds") Collection<Long> todoIds, @Param("delta") int delta);
+
+    @Query("SELECT t.revision FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findRevisionById(@Param("todoId") Long todoId);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // id 범위 단위로 실제 개수와 다른 일정만 고칩니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "OR t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id))")
+    int reconcileAssociationCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,147 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일정 여러 건을 chunk 단위 트랜잭션으로 저장합니다.
+ * 날씨는 요청마다 한 번만 구하고, 각 chunk 는 시퀀스 id 덕분에 테이블별 JDBC batch insert 로 처리됩니다.
+ * 한 chunk 의 저장이 실패해도 이미 커밋된 chunk 는 유지되고 항목별 결과로 알려줍니다.
+ */
+@Slf4j(topic = "TodoBulkService")
+@Service
+public class TodoBulkService {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TodoChangeTracker todoChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public TodoBulkService(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            EntityManager entityManager,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            TodoChangeTracker todoChangeTracker,
+            @Value("${todo.bulk.chunk-size:500}") int chunkSize,
+            @Value("${todo.bulk.max-items:10000}") int maxItems
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.todoChangeTracker = todoChangeTracker;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 요청을 순서대로 읽으면서 chunk 가 찰 때마다 저장합니다. 본문 전체를 메모리에 올리지 않습니다.
+     * 요청을 더 읽을 수 없거나(형식 오류) 최대 건수를 넘으면 그 지점에서 멈추고 그때까지의 결과를 돌려줍니다.
+     */
+    public TodoBulkSaveResponse saveTodos(AuthUser authUser, Iterator<TodoSaveRequest> requests) {
+        User user = User.fromAuthUser(authUser);
+        String weather = weatherClient.getTodayWeather();
+
+        List<TodoBulkItemResponse> results = new ArrayList<>();
+        List<PendingTodo> chunk = new ArrayList<>(chunkSize);
+
+        int index = 0;
+        while (true) {
+            TodoSaveRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                results.add(TodoBulkItemResponse.failure(index, "요청 형식이 올바르지 않아 이후 항목을 처리하지 않았습니다."));
+                break;
+            }
+
+            if (index >= maxItems) {
+                results.add(TodoBulkItemResponse.failure(index, "한 번에 최대 " + maxItems + "개까지 저장할 수 있습니다."));
+                break;
+            }
+
+            String error = validate(request);
+            if (error != null) {
+                results.add(TodoBulkItemResponse.failure(index, error));
+            } else {
+                chunk.add(new PendingTodo(index, new Todo(request.getTitle(), request.getContents(), weather, user)));
+                if (chunk.size() >= chunkSize) {
+                    results.addAll(flush(chunk));
+                    chunk.clear();
+                }
+            }
+            index++;
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(flush(chunk));
+        }
+
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        return new TodoBulkSaveResponse(results);
+    }
+
+    private List<TodoBulkItemResponse> flush(List<PendingTodo> chunk) {
+        try {
+            return transactionTemplate.execute(status -> {
+                todoRepository.saveAll(chunk.stream().map(PendingTodo::todo).toList());
+                entityManager.flush();
+                // 요청 범위 영속성 컨텍스트에 저장한 일정이 계속 쌓이지 않도록 비웁니다.
+                entityManager.clear();
+                todoChangeTracker.collectionChanged();
+                return chunk.stream()
+                        .map(pending -> TodoBulkItemResponse.success(pending.index(), pending.todo().getId()))
+                        .toList();
+            });
+        } catch (RuntimeException e) {
+            log.warn("일정 {}건 저장에 실패했습니다.", chunk.size(), e);
+            return chunk.stream()
+                    .map(pending -> TodoBulkItemResponse.failure(pending.index(), "저장에 실패했습니다."))
+                    .toList();
+        }
+    }
+
+    private String validate(TodoSaveRequest request) {
+        if (request == null) {
+            return "빈 항목입니다.";
+        }
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<TodoSaveRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+
+    private record PendingTodo(int index, Todo todo) {
+    }
+}
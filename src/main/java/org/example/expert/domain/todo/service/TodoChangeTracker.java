@@ -0,0 +1,167 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.TodoChangeLog;
+import org.example.expert.domain.todo.entity.TodoCollectionVersion;
+import org.example.expert.domain.todo.repository.TodoChangeLogRepository;
+import org.example.expert.domain.todo.repository.TodoCollectionVersionRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 조회 응답의 ETag 를 만들기 위한 변경 버전을 관리합니다.
+ * - 일정 단위: todos.revision 컬럼. 일정 자신이나 댓글/담당자가 바뀔 때 touch 로 올립니다.
+ * - 목록 단위: todo_collection_version 행 하나. 여러 서버가 함께 보므로 다른 서버에서 바뀐 목록도 반영됩니다.
+ * 일정 단위 변경은 todo_change_log 에도 남겨 다른 서버의 near cache 가 지울 수 있도록 합니다.
+ * 기록의 changedAt 은 커밋 직전에 다시 찍습니다. touch 시각으로 두면 오래 걸린 트랜잭션(큰 import chunk 등)의 기록이
+ * 다른 서버가 이미 지나간 시각으로 커밋되어 무효화가 빠집니다.
+ */
+@Slf4j(topic = "TodoChangeTracker")
+@Component
+@RequiredArgsConstructor
+public class TodoChangeTracker {
+
+    // 트랜잭션에 묶어 두는 커밋 대기 중인 변경 기록 id 목록의 키
+    private final Object pendingChangeLogKey = new Object();
+
+    private final TodoRepository todoRepository;
+    private final TodoCollectionVersionRepository todoCollectionVersionRepository;
+    private final TodoChangeLogRepository todoChangeLogRepository;
+    private final TodoNearCache todoNearCache;
+
+    // 커밋 뒤 목록 버전을 올리지 못해 다시 올려야 하는지
+    private final AtomicBoolean collectionVersionBehind = new AtomicBoolean();
+
+    // 호출한 트랜잭션 안에서 일정 revision 을 올리고 변경 기록을 남깁니다.
+    public void touch(long todoId) {
+        todoRepository.incrementRevision(todoId);
+        recordChanges(List.of(todoId));
+    }
+
+    // revision 을 호출한 쪽에서 이미 올린 일정들의 변경 기록을 한 번에 남깁니다.
+    public void recordChanges(Collection<Long> todoIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoChangeLog> changeLogs = todoIds.stream()
+                .map(todoId -> new TodoChangeLog(todoId, now))
+                .toList();
+        todoChangeLogRepository.saveAll(changeLogs);
+        changeLogs.forEach(this::stampBeforeCommit);
+        List<Long> changedTodoIds = List.copyOf(todoIds);
+        afterCommit(() -> changedTodoIds.forEach(todoNearCache::invalidate));
+        collectionChanged();
+    }
+
+    // 일정이 추가/삭제되었거나 목록에 보이는 값이 바뀌었을 때. 커밋된 뒤에 별도 트랜잭션으로 반영합니다.
+    // 쓰기는 이미 커밋되었으므로 버전을 올리지 못해도 요청은 실패시키지 않고, 남겨 두었다가 다시 올립니다.
+    public void collectionChanged() {
+        afterCommit(this::incrementCollectionVersion);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.collection-version.retry-interval-ms:5000}")
+    public void retryCollectionVersion() {
+        if (collectionVersionBehind.compareAndSet(true, false)) {
+            incrementCollectionVersion();
+        }
+    }
+
+    // 일정, 댓글 목록, 담당자 목록이 공유하는 ETag. near cache 의 일정 응답에 든 revision 을 쓰고, 없을 때만 DB 에서 읽어 채웁니다.
+    // 본문을 이 값보다 나중에 읽는 조회에서만 씁니다. 그래야 ETag 가 본문보다 새로울 수 없습니다.
+    // 일정이 없으면 null 을 돌려줍니다. 조건부 요청 확인을 건너뛰고 각 조회가 예전처럼 처리합니다.
+    public String todoEtag(long todoId) {
+        TodoResponse todo = todoNearCache.getTodo(todoId, id -> todoRepository.findResponseById(id).orElse(null));
+        if (todo == null) {
+            return null;
+        }
+        return todoEtag(todoId, todo.getRevision());
+    }
+
+    public static String todoEtag(long todoId, long revision) {
+        return "todo-" + todoId + "-" + revision;
+    }
+
+    public String collectionEtag() {
+        long version = todoCollectionVersionRepository.findVersionById(TodoCollectionVersion.ID).orElse(0L);
+        return "todos-" + version;
+    }
+
+    // 버전 행이 없으면 만듭니다. 여러 서버가 동시에 시작해 이미 만들어졌다면 그대로 둡니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initCollectionVersion() {
+        if (todoCollectionVersionRepository.existsById(TodoCollectionVersion.ID)) {
+            return;
+        }
+        try {
+            todoCollectionVersionRepository.saveAndFlush(new TodoCollectionVersion(TodoCollectionVersion.ID));
+        } catch (DataIntegrityViolationException e) {
+            log.info("일정 목록 버전 행이 이미 만들어져 있습니다.");
+        }
+    }
+
+    // 버전 행이 없어 아무것도 올리지 못했다면 행을 만든 뒤 다시 올립니다. 0 에서 시작하면 예전 "todos-0" ETag 와 겹치기 때문입니다.
+    private void incrementCollectionVersion() {
+        try {
+            if (todoCollectionVersionRepository.increment(TodoCollectionVersion.ID) == 0) {
+                log.warn("일정 목록 버전 행이 없어 새로 만듭니다.");
+                initCollectionVersion();
+                todoCollectionVersionRepository.increment(TodoCollectionVersion.ID);
+            }
+        } catch (RuntimeException e) {
+            log.warn("일정 목록 버전을 올리지 못했습니다. 다시 시도합니다.", e);
+            collectionVersionBehind.set(true);
+        }
+    }
+
+    // 트랜잭션마다 기록 id 를 모아 두었다가 커밋 직전에 update 한 번으로 시각을 찍습니다.
+    // import 처럼 중간에 영속성 컨텍스트를 비우는 경우에도 남도록 엔티티가 아니라 벌크 update 로 처리합니다.
+    private void stampBeforeCommit(TodoChangeLog changeLog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Long> pending = (List<Long>) TransactionSynchronizationManager.getResource(pendingChangeLogKey);
+        if (pending == null) {
+            List<Long> changeLogIds = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingChangeLogKey, changeLogIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    todoChangeLogRepository.stampChangedAt(changeLogIds, LocalDateTime.now());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingChangeLogKey);
+                }
+            });
+            pending = changeLogIds;
+        }
+        pending.add(changeLog.getId());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
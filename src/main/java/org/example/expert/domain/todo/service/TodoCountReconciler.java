@@ -0,0 +1,81 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.entity.TodoCollectionVersion;
+import org.example.expert.domain.todo.repository.TodoCollectionVersionRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j(topic = "TodoCountReconciler")
+@Component
+@RequiredArgsConstructor
+public class TodoCountReconciler {
+
+    private static final long RECONCILE_RANGE = 1_000;
+
+    private final TodoRepository todoRepository;
+    private final TodoCollectionVersionRepository todoCollectionVersionRepository;
+    private final TodoCounter todoCounter;
+    private final TodoChangeTracker todoChangeTracker;
+
+    // 마지막으로 다시 셀 때 본 목록 버전
+    private volatile long lastSeenVersion = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        recount();
+    }
+
+    // 목록 버전을 따라 다시 세는데도 개수가 어긋났다면 어느 서버에선가 버전을 올리지 못한 것입니다.
+    // 버전을 올려 다른 서버도 다시 세고, 목록 ETag 도 바뀌게 합니다.
+    @Scheduled(cron = "${todo.count.reconcile-cron:0 */10 * * * *}")
+    public void reconcileAndRecoverVersion() {
+        if (recount()) {
+            todoChangeTracker.collectionChanged();
+        }
+    }
+
+    // 다른 서버의 저장/삭제와 import 도 목록 버전을 올리므로, 버전이 바뀌었을 때만 다시 셉니다.
+    // 버전을 먼저 읽어 두어야 세는 동안 커밋된 변경도 다음 번에 다시 세어집니다.
+    @Scheduled(fixedDelayString = "${todo.count.sync-interval-ms:5000}")
+    public void reconcileIfChanged() {
+        long version = todoCollectionVersionRepository.findVersionById(TodoCollectionVersion.ID).orElse(0L);
+        if (version == lastSeenVersion) {
+            return;
+        }
+        recount();
+        lastSeenVersion = version;
+    }
+
+    // 일정별 댓글/담당자 개수를 실제 개수와 맞춥니다. 범위마다 짧은 트랜잭션으로 나눠 잠금을 오래 잡지 않습니다.
+    @Scheduled(cron = "${todo.association-count.reconcile-cron:0 30 3 * * *}")
+    public void reconcileAssociationCounts() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += RECONCILE_RANGE) {
+            fixed += todoRepository.reconcileAssociationCounts(fromId, fromId + RECONCILE_RANGE - 1);
+        }
+        if (fixed > 0) {
+            log.info("댓글/담당자 개수가 어긋난 일정 {}건을 보정했습니다.", fixed);
+        }
+    }
+
+    // 카운터를 실제 일정 수로 맞추고, 기존 값이 어긋나 있었는지 돌려줍니다.
+    private boolean recount() {
+        long actual = todoRepository.count();
+        long cached = todoCounter.reset(actual);
+        if (cached >= 0 && cached != actual) {
+            log.info("일정 수를 보정했습니다. cached: {}, actual: {}", cached, actual);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 페이지 목록의 전체 개수로 쓰는 일정 수입니다. 서버마다 따로 가지는 근사값입니다.
+ * 이 서버에서 커밋된 저장/삭제는 바로 증감합니다.
+ * 다른 서버의 변경이나 엔티티 리스너를 거치지 않는 변경(JPQL 벌크 삭제, import 등)은 바로 반영되지 않고,
+ * TodoCountReconciler 가 공유 목록 버전이 바뀐 것을 보고 todo.count.sync-interval-ms 안에 실제 개수로 맞춥니다.
+ */
+@Component
+public class TodoCounter {
+
+    private static final long UNINITIALIZED = -1;
+
+    private final AtomicLong count = new AtomicLong(UNINITIALIZED);
+
+    // 아직 실제 개수로 초기화되지 않았으면 비어 있습니다.
+    public OptionalLong current() {
+        long value = count.get();
+        return value == UNINITIALIZED ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+
+    public void increment() {
+        count.getAndUpdate(value -> value == UNINITIALIZED ? UNINITIALIZED : value + 1);
+    }
+
+    public void decrement() {
+        count.getAndUpdate(value -> value == UNINITIALIZED ? UNINITIALIZED : Math.max(value - 1, 0));
+    }
+
+    // 보정 전 값을 돌려줍니다.
+    public long reset(long actual) {
+        return count.getAndSet(actual);
+    }
+}
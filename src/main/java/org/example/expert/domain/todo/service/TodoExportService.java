@@ -0,0 +1,145 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 일정을 작성자 이메일과 함께 응답 스트림으로 바로 내보냅니다.
+ * DTO projection 을 forward-only 커서로 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않고,
+ * 한 번에 fetch-size 만큼의 행만 메모리에 올라갑니다.
+ */
+@Slf4j(topic = "TodoExportService")
+@Service
+public class TodoExportService {
+
+    static final String CSV_HEADER = "id,title,contents,weather,userId,email,createdAt,modifiedAt,commentCount,managerCount";
+
+    private final EntityManager entityManager;
+    private final ObjectWriter todoWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public TodoExportService(
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize,
+            @Value("${todo.export.flush-every:1000}") int flushEvery
+    ) {
+        this.entityManager = entityManager;
+        this.todoWriter = objectMapper.writerFor(TodoResponse.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * 요청 스레드 밖(StreamingResponseBody)에서 호출되므로 커서를 읽는 동안만 읽기 전용 트랜잭션을 직접 엽니다.
+     * @return 내보낸 행 수
+     */
+    public long export(TodoExportFormat format, OutputStream outputStream) {
+        Long exported = transactionTemplate.execute(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try (Stream<TodoResponse> rows = streamRows()) {
+                return write(format, rows.iterator(), writer);
+            } catch (IOException e) {
+                // 대부분 클라이언트가 연결을 끊은 경우입니다. 커서를 닫고 트랜잭션을 끝냅니다.
+                throw new UncheckedIOException(e);
+            }
+        });
+        return exported == null ? 0 : exported;
+    }
+
+    long write(TodoExportFormat format, Iterator<TodoResponse> rows, Writer writer) throws IOException {
+        if (format == TodoExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        while (rows.hasNext()) {
+            TodoResponse row = rows.next();
+            if (format == TodoExportFormat.CSV) {
+                writeCsv(row, writer);
+            } else {
+                writer.write(todoWriter.writeValueAsString(row));
+            }
+            writer.write('\n');
+
+            // 버퍼에 모아 둔 행을 주기적으로 내보내 클라이언트가 바로 받기 시작하도록 합니다.
+            if (++count % flushEvery == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        log.info("일정 {} 건을 {} 형식으로 내보냈습니다.", count, format);
+        return count;
+    }
+
+    private Stream<TodoResponse> streamRows() {
+        return entityManager.createQuery(TodoRepository.TODO_RESPONSE + "ORDER BY t.id", TodoResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void writeCsv(TodoResponse row, Writer writer) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writeCsvField(row.getTitle(), writer);
+        writer.write(',');
+        writeCsvField(row.getContents(), writer);
+        writer.write(',');
+        writeCsvField(row.getWeather(), writer);
+        writer.write(',');
+        writer.write(String.valueOf(row.getUser().getId()));
+        writer.write(',');
+        writeCsvField(row.getUser().getEmail(), writer);
+        writer.write(',');
+        writeCsvField(row.getCreatedAt() == null ? null : row.getCreatedAt().toString(), writer);
+        writer.write(',');
+        writeCsvField(row.getModifiedAt() == null ? null : row.getModifiedAt().toString(), writer);
+        writer.write(',');
+        writer.write(String.valueOf(row.getCommentCount()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getManagerCount()));
+    }
+
+    // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씁니다.
+    private void writeCsvField(String value, Writer writer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 일정 단건 응답을 서버 메모리에 둡니다.
+ * revision 은 응답 안에 함께 들어 있고 ETag 도 이 값으로 만들므로, ETag 가 본문보다 새로울 수 없습니다.
+ * - 이 서버에서 바뀐 일정은 커밋 직후 바로 지웁니다.
+ * - 다른 서버에서 바뀐 일정은 todo_change_log 를 poll-interval 마다 읽어 지웁니다.
+ *   기록 시각은 쓴 서버가 커밋 직전에 찍으므로 트랜잭션이 얼마나 길었는지와 관계없이 커밋 시각에 가깝습니다.
+ *   poll-overlap 은 서버 간 시계 차이와 커밋에 걸리는 시간을 덮을 만큼 두고, 그만큼 겹쳐 읽어
+ *   복제본 지연으로 다시 채워진 값도 한 번 더 지웁니다.
+ * - 기록을 max-staleness 보다 오래 읽지 못하면 캐시를 비우고 DB 에서 바로 읽습니다.
+ * 따라서 응답이 낡을 수 있는 시간은 대략 poll-interval + poll-overlap 이고, 최대 max-staleness 를 넘지 않습니다.
+ */
+@Slf4j(topic = "TodoNearCache")
+@Component
+public class TodoNearCache implements MeterBinder {
+
+    private final TodoChangeLogRepository todoChangeLogRepository;
+    private final Cache<Long, TodoResponse> responses;
+    private final Duration pollOverlap;
+    private final Duration maxStaleness;
+    private final Duration changeLogRetention;
+
+    // 다음 poll 이 읽기 시작할 기준 시각과 마지막으로 성공한 시각
+    private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+    private volatile long lastSucceededAt = System.currentTimeMillis();
+
+    public TodoNearCache(
+            TodoChangeLogRepository todoChangeLogRepository,
+            @Value("${todo.cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${todo.cache.poll-overlap-ms:5000}") long pollOverlapMillis,
+            @Value("${todo.cache.max-staleness-ms:30000}") long maxStalenessMillis,
+            @Value("${todo.cache.change-log-retention-ms:3600000}") long changeLogRetentionMillis
+    ) {
+        this.todoChangeLogRepository = todoChangeLogRepository;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.pollOverlap = Duration.ofMillis(pollOverlapMillis);
+        this.maxStaleness = Duration.ofMillis(maxStalenessMillis);
+        this.changeLogRetention = Duration.ofMillis(changeLogRetentionMillis);
+    }
+
+    // loader 가 예외를 던지거나(없는 일정 등) null 을 돌려주면 캐시에 남기지 않고 그대로 전달합니다.
+    public TodoResponse getTodo(long todoId, Function<Long, TodoResponse> loader) {
+        if (isStale()) {
+            return loader.apply(todoId);
+        }
+        return responses.get(todoId, loader);
+    }
+
+    public void invalidate(long todoId) {
+        responses.invalidate(todoId);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.cache.poll-interval-ms:1000}")
+    public void pollChanges() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<Long> changedTodoIds = todoChangeLogRepository.findTodoIdsChangedSince(lastPolledAt.minus(pollOverlap));
+            changedTodoIds.forEach(this::invalidate);
+            lastPolledAt = startedAt;
+            lastSucceededAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            log.warn("일정 변경 기록을 읽지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${todo.cache.change-log-cleanup-cron:0 */10 * * * *}")
+    public void purgeChangeLog() {
+        int deleted = todoChangeLogRepository.deleteChangedBefore(LocalDateTime.now().minus(changeLogRetention));
+        if (deleted > 0) {
+            log.info("오래된 일정 변경 기록 {}건을 지웠습니다.", deleted);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses, "todo.near.responses");
+    }
+
+    private boolean isStale() {
+        if (System.currentTimeMillis() - lastSucceededAt <= maxStaleness.toMillis()) {
+            return false;
+        }
+        responses.invalidateAll();
+        return true;
+    }
+}
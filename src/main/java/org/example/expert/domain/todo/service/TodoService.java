@@ -2,20 +2,34 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.support.RequestCoalescer;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -24,8 +38,16 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCounter todoCounter;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoChangeTracker todoChangeTracker;
+    private final TodoNearCache todoNearCache;
+    private final RequestCoalescer<Long, TodoResponse> todoReadCoalescer;
 
-    @Transactional
+    // 날씨 API 호출 동안 DB 커넥션을 잡고 있지 않도록 이 메서드는 트랜잭션 밖에서 실행합니다.
+    // 날씨를 먼저 구한 뒤 todoRepository.save 가 여는 짧은 트랜잭션 안에서 Todo 와 cascade 되는 Manager 가 함께 저장됩니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -38,6 +60,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoChangeTracker.collectionChanged();
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,36 +71,86 @@ public class TodoService {
         );
     }
 
+    // 전체 개수는 매번 count 쿼리를 실행하지 않고 TodoCounter 의 근사값을 사용합니다.
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        Slice<TodoResponse> todos = getTodoSlice(page, size);
+        long total = todoCounter.current().orElseGet(todoRepository::count);
+
+        return new PageImpl<>(todos.getContent(), pageable, total);
     }
 
+    // 전체 개수가 필요 없는 클라이언트용. 다음 페이지 여부만 알려줍니다.
+    public Slice<TodoResponse> getTodoSlice(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        return todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+    }
+
+    /**
+     * 마지막으로 받은 위치 다음부터 size 개를 조회합니다. offset 과 count 쿼리가 없어 얼마나 깊이 내려가도 비용이 같습니다.
+     */
+    public TodoScrollResponse scrollTodos(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size는 1 이상이어야 합니다.");
+        }
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 읽습니다.
+        Limit limit = Limit.of(size + 1);
+        List<TodoResponse> todos;
+        if (StringUtils.hasText(cursor)) {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findNextByCursor(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        } else {
+            todos = todoRepository.findFirstByCursor(limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = todos.get(todos.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoScrollResponse(todos, nextCursor, hasNext);
+    }
+
+    // 캐시에 있으면 트랜잭션도 열지 않습니다. 없을 때만 저장소 조회가 자체 readOnly 트랜잭션으로 실행됩니다.
+    // 캐시 적중은 그대로 돌려주고, 캐시를 놓친 조회만 같은 일정끼리 하나로 묶습니다.
+    // 방금 쓴 사용자(primary 고정)는 다른 요청이 채운 캐시나 진행 중인 조회를 받지 않고 직접 읽습니다.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        if (todoReadCoalescer.isBypassed()) {
+            return loadTodo(todoId);
+        }
+        return todoNearCache.getTodo(todoId, id -> todoReadCoalescer.load(id, () -> loadTodo(id)));
+    }
+
+    private TodoResponse loadTodo(long todoId) {
+        return todoRepository.findResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    /**
+     * 일정, 작성자, 댓글 한 페이지, 담당자를 한 번에 조회합니다.
+     * 읽기 전용 트랜잭션 하나에서 projection 쿼리 3개(일정+작성자, 댓글 slice, 담당자)만 실행합니다.
+     */
+    public TodoDetailResponse getTodoDetail(long todoId, int commentPage, int commentSize) {
+        TodoResponse todo = todoRepository.findResponseById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        Slice<CommentResponse> comments = commentRepository.findResponsesByTodoId(todoId, PageRequest.of(commentPage - 1, commentSize));
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
+        return new TodoDetailResponse(
+                todo,
+                comments.getContent(),
+                comments.hasNext(),
+                managerRepository.findResponsesByTodoId(todoId)
         );
     }
 }
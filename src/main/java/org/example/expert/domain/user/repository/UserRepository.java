@@ -1,11 +1,54 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE;
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_STORE_MODE;
+
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     boolean existsByEmail(String email);
+    List<User> findAllByEmailIn(Collection<String> emails);
+
+    // users 2차 캐시는 서버마다 따로 있고 서버 사이 무효화가 없어, 다른 서버에서 바뀐 비밀번호와 권한을 TTL 동안 모를 수 있습니다.
+    // 로그인 자격 확인과 비밀번호/권한 변경은 캐시를 거치지 않고 DB 에서 읽고, 읽은 값으로 이 서버의 캐시도 갱신합니다.
+    @QueryHints({
+            @QueryHint(name = HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+    })
+    @Query("SELECT u FROM User u WHERE u.email = :email")
+    Optional<User> findByEmailBypassingCache(@Param("email") String email);
+
+    @QueryHints({
+            @QueryHint(name = HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+    })
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdBypassingCache(@Param("userId") Long userId);
+
+    // 트랜잭션 안에서 닫힐 때까지 순방향으로만 읽습니다.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    // 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않도록 기존 해시가 같을 때만 갱신합니다.
+    // 벌크 update 이므로 Hibernate 가 users 2차 캐시 영역을 통째로 비웁니다. 재해싱은 드물게만 일어납니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
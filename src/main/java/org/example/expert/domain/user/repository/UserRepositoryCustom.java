@@ -0,0 +1,12 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // email 은 natural id 이므로 2차 캐시(이메일 -> id -> 엔티티)를 거쳐서 찾습니다.
+    // 캐시는 다른 서버의 변경을 TTL 동안 모를 수 있으므로, 자격 확인에는 UserRepository.findByEmailBypassingCache 를 씁니다.
+    Optional<User> findByEmail(String email);
+}
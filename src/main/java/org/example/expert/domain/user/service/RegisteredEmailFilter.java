@@ -0,0 +1,137 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일의 bloom filter 입니다.
+ * mightContain 이 false 면 해당 이메일은 확실히 없으므로 existsByEmail 조회를 건너뛸 수 있습니다.
+ * 기동 직후 users 테이블을 스트리밍해서 채우며, 다 채워지기 전에는 항상 true 를 반환해 DB 조회로 넘깁니다.
+ */
+@Slf4j(topic = "RegisteredEmailFilter")
+@Component
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+    private volatile boolean ready = false;
+
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${auth.signup.email-filter.expected-insertions:10000000}") long expectedInsertions,
+            @Value("${auth.signup.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // m = -n ln(p) / (ln 2)^2, k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        long h1 = hash(email);
+        long h2 = mix(h1 + 0x9e3779b97f4a7c15L);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1, h2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        long h1 = hash(email);
+        long h2 = mix(h1 + 0x9e3779b97f4a7c15L);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1, h2, i);
+            setBit((int) (index >>> 6), 1L << index);
+        }
+        insertions.incrementAndGet();
+    }
+
+    // 기동을 막지 않도록 별도 스레드에서 채웁니다. 채우는 동안 가입된 이메일은 put 으로 함께 들어갑니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread loader = new Thread(this::loadAll, "registered-email-filter-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void loadAll() {
+        long start = System.currentTimeMillis();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.forEach(this::put);
+                }
+            });
+            ready = true;
+            log.info("가입 이메일 필터를 채웠습니다. {}건, {}ms", insertions.get(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 채우지 못하면 계속 DB 조회로 동작합니다.
+            log.warn("가입 이메일 필터를 채우지 못했습니다. existsByEmail 조회를 계속 사용합니다.", e);
+        }
+    }
+
+    // Kirsch-Mitzenmacher: 두 해시값을 조합해 k 개의 비트 위치를 만듭니다.
+    private long bitIndex(long h1, long h2, int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(int word, long mask) {
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    // DB collation 이 대소문자를 구분하지 않을 수 있으므로 소문자로 맞춰 보수적으로(false positive 쪽으로) 판단합니다.
+    private long hash(String email) {
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        long h = 0xcbf29ce484222325L; // FNV-1a 64
+        for (int i = 0; i < normalized.length(); i++) {
+            h ^= normalized.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // murmur3 fmix64 로 비트를 고르게 섞습니다.
+    private long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -17,7 +17,8 @@ public class UserAdminService {
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        // 다른 서버에서 바뀐 값을 캐시 때문에 덮어쓰지 않도록 DB 에서 직접 읽습니다.
+        User user = userRepository.findByIdBypassingCache(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
     }
 }
@@ -29,7 +29,8 @@ public class UserService {
             throw new InvalidRequestException("새 비밀번호는 8자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다.");
         }
 
-        User user = userRepository.findById(userId)
+        // 기존 비밀번호 확인과 덮어쓰기가 다른 서버의 변경을 놓치지 않도록 캐시를 거치지 않습니다.
+        User user = userRepository.findByIdBypassingCache(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
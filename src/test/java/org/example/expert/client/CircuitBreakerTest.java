@@ -0,0 +1,48 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest {
+
+    @Test
+    void execute_연속_실패가_기준에_도달하면_호출을_차단한다() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, 60_000);
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+
+        // when
+        CircuitBreakerOpenException exception = assertThrows(CircuitBreakerOpenException.class,
+                () -> circuitBreaker.execute(() -> "ok"));
+
+        // then
+        assertEquals("test 호출이 일시적으로 차단되었습니다.", exception.getMessage());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1, circuitBreaker.getTransitionCount(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void execute_차단_시간이_지나면_시험_호출이_성공했을_때_다시_닫힌다() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, 0);
+        fail(circuitBreaker);
+
+        // when
+        String result = circuitBreaker.execute(() -> "ok");
+
+        // then
+        assertEquals("ok", result);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1, circuitBreaker.getTransitionCount(CircuitBreaker.State.HALF_OPEN));
+        assertEquals(1, circuitBreaker.getTransitionCount(CircuitBreaker.State.CLOSED));
+    }
+
+    private void fail(CircuitBreaker circuitBreaker) {
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.execute(() -> {
+            throw new IllegalStateException("실패");
+        }));
+    }
+}
@@ -5,39 +5,51 @@ import org.example.expert.domain.common.exception.ServerException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.when;
-import static org.mockito.MockitoAnnotations.openMocks;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class WeatherClientTest {
 
+    private static final String SOURCE_URL = "https://f-api.github.io/f-api/weather.json";
+
     private WeatherClient weatherClient;
     @Mock
-    private RestTemplateBuilder restTemplateBuilder;
-    @Mock
     private RestTemplate restTemplate;
+    private CircuitBreaker circuitBreaker;
+    private WeatherSnapshotStore snapshotStore;
+    @TempDir
+    Path tempDir;
 
 
     @BeforeEach
     public void setUp() {
-        // WeatherClient의 생성자에서 RestTemplateBuilder가 초기화 되지 않아 RestTemplate이 null이 되어 생기는 문제를 해결하기 위해 추가한 코드
-        openMocks(this); // mock에서 라이브러리 객체 초기화하는데 사용하는 것
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        weatherClient = new WeatherClient(restTemplateBuilder);
+        circuitBreaker = new CircuitBreaker("weather", 2, 60_000);
+        snapshotStore = new WeatherSnapshotStore(tempDir.resolve("weather-snapshot.tsv").toString());
+        weatherClient = new WeatherClient(restTemplate, circuitBreaker, snapshotStore, SOURCE_URL);
     }
 
     @Test
@@ -143,10 +155,128 @@ public class WeatherClientTest {
                 .willReturn(responseEntity);
 
         // when
-        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, first);
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, second);
+        // 없는 날짜는 기억해 두고 다음 정기 갱신 전까지 다시 받지 않는다.
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    public void getTodayWeather_정기_갱신_후에는_없던_날짜를_다시_찾는다() {
+        // given
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        String yesterday = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(new ResponseEntity<>(new WeatherDto[]{new WeatherDto(yesterday, "흐림")}, HttpStatus.OK))
+                .willReturn(new ResponseEntity<>(new WeatherDto[]{new WeatherDto(today, "맑음")}, HttpStatus.OK));
+        weatherClient.getTodayWeather();
+
+        // when
+        weatherClient.refreshSnapshot();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("맑음", weather);
+    }
+
+    @Test
+    public void getTodayWeather_갱신에_실패하면_마지막으로_받은_날씨를_사용한다() throws IOException {
+        // given
+        Path source = tempDir.resolve("weather.json");
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        Files.writeString(source, "[{\"date\":\"" + today + "\",\"weather\":\"맑음\"}]");
+        WeatherClient fileClient = new WeatherClient(restTemplate, circuitBreaker, snapshotStore, source.toUri().toString());
+        fileClient.getTodayWeather();
+
+        // 오늘이 빠진 데이터셋으로 바뀐 뒤 정기 갱신이 일어난 상황
+        String yesterday = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+        Files.writeString(source, "[{\"date\":\"" + yesterday + "\",\"weather\":\"흐림\"}]");
+        fileClient.refreshSnapshot();
+
+        // when
+        String weather = fileClient.getTodayWeather();
+
+        // then
+        assertEquals("맑음", weather);
+    }
+
+    @Test
+    public void getTodayWeather_같은_날에는_한_번만_조회한다() {
+        // given
+        WeatherDto[] weatherDtoList = {
+                new WeatherDto(LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd")), "날씨")
+        };
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(new ResponseEntity<>(weatherDtoList, HttpStatus.OK));
 
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("날씨", first);
+        assertEquals("날씨", second);
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    public void getTodayWeather_연결_실패가_반복되면_circuit이_열리고_Unknown을_반환한다() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willThrow(new ResourceAccessException("Read timed out"));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+        String third = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, first);
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, second);
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, third);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        // 열린 뒤에는 외부 호출 없이 바로 대체 값을 돌려준다.
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    public void getTodayWeather_저장된_스냅샷이_있으면_네트워크_없이_응답한다() {
+        // given
+        WeatherDto[] weatherDtoList = {
+                new WeatherDto(LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd")), "날씨")
+        };
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(new ResponseEntity<>(weatherDtoList, HttpStatus.OK));
+        weatherClient.getTodayWeather();
+
+        RestTemplate offlineRestTemplate = mock(RestTemplate.class);
+        WeatherClient restarted = new WeatherClient(offlineRestTemplate, circuitBreaker, snapshotStore, SOURCE_URL);
+
+        // when
+        String weather = restarted.getTodayWeather();
+
+        // then
+        assertEquals("날씨", weather);
+        verify(offlineRestTemplate, never()).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    public void getTodayWeather_파일을_원본으로_사용할_수_있다() throws IOException {
+        // given
+        Path source = tempDir.resolve("weather.json");
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        Files.writeString(source, "[{\"date\":\"" + today + "\",\"weather\":\"맑음\"}]");
+        WeatherClient fileClient = new WeatherClient(restTemplate, circuitBreaker, snapshotStore, source.toUri().toString());
+
+        // when
+        String weather = fileClient.getTodayWeather();
 
         // then
-        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다." , exception.getMessage());
+        assertEquals("맑음", weather);
+        verify(restTemplate, never()).getForEntity(any(URI.class), eq(WeatherDto[].class));
     }
 }
@@ -0,0 +1,66 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeatherSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void get_연도와_상관없이_월일로_날씨를_찾는다() {
+        // given
+        WeatherSnapshot snapshot = WeatherSnapshot.from(new WeatherDto[]{
+                new WeatherDto("02-29", "윤일"),
+                new WeatherDto("03-01", "봄"),
+                new WeatherDto("12-31", "눈"),
+                new WeatherDto("13-01", "잘못된 날짜")
+        });
+
+        // when & then
+        assertEquals(3, snapshot.size());
+        assertEquals("윤일", snapshot.get(LocalDate.of(2024, 2, 29)));
+        assertEquals("봄", snapshot.get(LocalDate.of(2023, 3, 1)));
+        assertEquals("눈", snapshot.get(LocalDate.of(2023, 12, 31)));
+        assertNull(snapshot.get(LocalDate.of(2023, 1, 1)));
+    }
+
+    @Test
+    void from_데이터가_없으면_예외가_발생한다() {
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> WeatherSnapshot.from(new WeatherDto[]{}));
+
+        // then
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void write_파일로_쓰고_다시_읽으면_같은_스냅샷이다() throws IOException {
+        // given
+        WeatherSnapshot snapshot = WeatherSnapshot.from(new WeatherDto[]{
+                new WeatherDto("01-01", "맑음"),
+                new WeatherDto("07-15", "비")
+        });
+        Path path = tempDir.resolve("snapshot.tsv");
+
+        // when
+        snapshot.write(path);
+        WeatherSnapshot read = WeatherSnapshot.read(path);
+
+        // then
+        assertEquals(2, read.size());
+        assertEquals("맑음", read.get(LocalDate.of(2023, 1, 1)));
+        assertEquals("비", read.get(LocalDate.of(2023, 7, 15)));
+    }
+}
@@ -4,6 +4,7 @@ import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -103,6 +104,7 @@ public class JwtFilterTest {
         jwtFilter.doFilter(httpRequest, httpResponse, filterChain);
 
         // then
+        verify(httpRequest, times(1)).setAttribute(eq(JwtFilter.AUTH_USER_ATTRIBUTE), any(AuthUser.class));
         verify(filterChain, times(1)).doFilter(httpRequest, httpResponse);
     }
 
@@ -0,0 +1,62 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-1234".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaximumSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    void extractClaims_같은_토큰은_캐시된_claims를_반환한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", first.getSubject());
+        assertEquals("test@test.com", first.get("email", String.class));
+        assertEquals(first, second);
+        Cache<?, ?> claimsCache = (Cache<?, ?>) ReflectionTestUtils.getField(jwtUtil, "claimsCache");
+        assertEquals(1, claimsCache.stats().hitCount());
+    }
+
+    @Test
+    void extractClaims_반환된_claims_를_바꿔도_캐시에는_영향이_없다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+        Claims first = jwtUtil.extractClaims(token);
+        Claims cachedCopy = jwtUtil.extractClaims(token);
+
+        // when
+        first.put("email", "other@test.com");
+        cachedCopy.put("userRole", "ADMIN");
+        Claims next = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("test@test.com", next.get("email", String.class));
+        assertEquals("USER", next.get("userRole", String.class));
+        assertNotSame(cachedCopy, next);
+    }
+}
@@ -1,17 +1,15 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,4 +23,42 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 현재_cost보다_낮은_해시는_재해싱_대상이다() {
+        // given
+        String legacyPassword = passwordEncoder.encode("testPassword");
+        PasswordEncoder calibratedEncoder = new PasswordEncoder();
+        calibratedEncoder.setCost(6);
+
+        // when & then
+        assertTrue(calibratedEncoder.needsRehash(legacyPassword));
+        assertFalse(calibratedEncoder.needsRehash(calibratedEncoder.encode("testPassword")));
+    }
+
+    @Test
+    void 해싱_큐가_가득_차면_즉시_거절한다() throws Exception {
+        // given
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 1000);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> await(release)); // 실행 중
+        executor.submit(() -> await(release)); // 큐 대기
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> executor.submit(() -> true));
+        release.countDown();
+
+        // then
+        assertNotNull(exception.getMessage());
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
 }
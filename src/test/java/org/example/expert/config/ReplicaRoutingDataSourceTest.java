@@ -0,0 +1,154 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 내장 H2 두 개를 primary/replica 로 두고, 각 DB 에 자기 이름을 적어 둔 뒤 어디서 읽었는지 확인합니다.
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary");
+        DataSource replica = h2("routing_replica");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesWindow(60_000));
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void readOnly_트랜잭션은_복제본에서_읽는다() {
+        // when
+        String source = readTransaction.execute(status -> currentSource());
+
+        // then
+        assertEquals("routing_replica", source);
+    }
+
+    @Test
+    public void 쓰기_트랜잭션은_primary_로_보낸다() {
+        // when
+        String source = writeTransaction.execute(status -> currentSource());
+
+        // then
+        assertEquals("routing_primary", source);
+    }
+
+    @Test
+    public void 쓰기_직후에는_같은_사용자의_읽기를_primary_로_보낸다() {
+        // given
+        login(1L);
+        writeTransaction.execute(status -> currentSource());
+
+        // when
+        String sameUser = readTransaction.execute(status -> currentSource());
+        login(2L);
+        String otherUser = readTransaction.execute(status -> currentSource());
+
+        // then
+        assertEquals("routing_primary", sameUser);
+        assertEquals("routing_replica", otherUser);
+    }
+
+    @Test
+    public void JPA_세션이_이어져도_트랜잭션마다_다시_라우팅한다() {
+        // given
+        // open-in-view 처럼 요청 동안 EntityManager 하나를 열어 두고 트랜잭션 여러 개를 실행합니다.
+        Map<String, Object> properties = new HashMap<>();
+        new ReplicaDataSourceConfig().replicaConnectionHandlingCustomizer().customize(properties);
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate jpaRead = new TransactionTemplate(transactionManager);
+        jpaRead.setReadOnly(true);
+        TransactionTemplate jpaWrite = new TransactionTemplate(transactionManager);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            // when
+            String read = jpaRead.execute(status -> currentSource(entityManager));
+            String write = jpaWrite.execute(status -> currentSource(entityManager));
+            String readAgain = jpaRead.execute(status -> currentSource(entityManager));
+
+            // then
+            assertEquals("routing_replica", read);
+            assertEquals("routing_primary", write);
+            assertEquals("routing_replica", readAgain);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            factoryBean.destroy();
+        }
+    }
+
+    private String currentSource(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM routing_source").getSingleResult();
+    }
+
+    private String currentSource() {
+        return jdbcTemplate.queryForObject("SELECT name FROM routing_source", String.class);
+    }
+
+    private void login(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "test@test.com", UserRole.USER));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS routing_source (name VARCHAR(50))");
+        template.execute("DELETE FROM routing_source");
+        template.update("INSERT INTO routing_source (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.example.expert.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class SecondLevelCacheConfigTest {
+
+    @Test
+    public void users_영역은_크기와_TTL_이_정해져_있다() {
+        // given
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+
+        // when
+        try (CacheManager cacheManager = config.hibernateCacheManager(100, 60)) {
+            // then
+            for (String region : new String[]{User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION}) {
+                Cache<Object, Object> cache = cacheManager.getCache(region);
+                assertNotNull(cache);
+
+                @SuppressWarnings("unchecked")
+                CaffeineConfiguration<Object, Object> configuration = cache.getConfiguration(CaffeineConfiguration.class);
+                assertEquals(OptionalLong.of(100), configuration.getMaximumSize());
+                assertEquals(OptionalLong.of(TimeUnit.SECONDS.toNanos(60)), configuration.getExpireAfterWrite());
+            }
+        }
+    }
+
+    @Test
+    public void 컨텍스트마다_별도의_CacheManager_를_만든다() {
+        // given
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+
+        // when
+        try (CacheManager first = config.hibernateCacheManager(100, 60);
+             CacheManager second = config.hibernateCacheManager(200, 60)) {
+            // then
+            assertNotSame(first, second);
+
+            @SuppressWarnings("unchecked")
+            CaffeineConfiguration<Object, Object> configuration = second.getCache(User.CACHE_REGION)
+                    .getConfiguration(CaffeineConfiguration.class);
+            assertEquals(OptionalLong.of(200), configuration.getMaximumSize());
+            assertFalse(first.isClosed());
+        }
+    }
+}
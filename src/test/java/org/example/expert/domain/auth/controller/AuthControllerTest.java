@@ -7,6 +7,7 @@ import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninRateLimiter;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +38,9 @@ public class AuthControllerTest {
     @MockBean // 깡통 객체를 주입받는다. (있는 척 한다)
     private AuthService authService; // AuthService 모킹
 
+    @MockBean
+    private SigninRateLimiter signinRateLimiter;
+
     @SpyBean
     private JwtUtil jwtUtil; // JwtUtil 모킹
 
@@ -11,12 +11,14 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.RegisteredEmailFilter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
@@ -25,6 +27,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +40,8 @@ public class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
     @InjectMocks
     private AuthService authService;
 
@@ -55,6 +61,7 @@ public class AuthServiceTest {
     public void signup_이메일_중복_검증() {
         // given
         SignupRequest signupRequest = new SignupRequest("test@test.com" , "1234" , "ADMIN");
+        given(registeredEmailFilter.mightContain(signupRequest.getEmail())).willReturn(true);
         given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(true);
 
         // when
@@ -64,6 +71,35 @@ public class AuthServiceTest {
         assertEquals("이미 존재하는 이메일입니다." , exception.getMessage());
     }
 
+    @Test
+    public void signup_필터에_없는_이메일은_DB_중복_조회를_건너뛴다() {
+        // given
+        SignupRequest signupRequest = new SignupRequest("new@test.com" , "1234" , "USER");
+        given(registeredEmailFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+        given(userRepository.saveAndFlush(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        authService.signup(signupRequest);
+
+        // then
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(registeredEmailFilter).put(signupRequest.getEmail());
+    }
+
+    @Test
+    public void signup_unique_제약_위반은_이메일_중복으로_처리한다() {
+        // given
+        SignupRequest signupRequest = new SignupRequest("test@test.com" , "1234" , "ADMIN");
+        given(registeredEmailFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+        given(userRepository.saveAndFlush(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class , () -> authService.signup(signupRequest));
+
+        // then
+        assertEquals("이미 존재하는 이메일입니다." , exception.getMessage());
+    }
+
     @Test
     public void signup_get_token() {
         // given
@@ -81,7 +117,7 @@ public class AuthServiceTest {
 
         String token = jwtUtil.createToken(newUser.getId(), newUser.getEmail(), userRole);
 
-        given(userRepository.save(any(User.class))).willReturn(newUser);
+        given(userRepository.saveAndFlush(any(User.class))).willReturn(newUser);
         when(jwtUtil.createToken(any(), anyString(), any())).thenReturn(token);
 
         // when
@@ -95,7 +131,7 @@ public class AuthServiceTest {
     public void signin_가입_유저_검증() {
         // given
         SigninRequest signinRequest = new SigninRequest("test@test.com" , "1234");
-        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.empty());
+        given(userRepository.findByEmailBypassingCache(signinRequest.getEmail())).willReturn(Optional.empty());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class , () -> authService.signin(signinRequest));
@@ -109,7 +145,7 @@ public class AuthServiceTest {
         // given
         SigninRequest signinRequest = new SigninRequest("test@test.com" , "1234");
         User user = new User(signinRequest.getEmail() , passwordEncoder.encode("2345") , UserRole.ADMIN);
-        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findByEmailBypassingCache(signinRequest.getEmail())).willReturn(Optional.of(user));
 
         // when
         AuthException exception = assertThrows(AuthException.class , () -> authService.signin(signinRequest));
@@ -123,7 +159,7 @@ public class AuthServiceTest {
         // given
         SigninRequest signinRequest = new SigninRequest("test@test.com" , "1234");
         User user = new User(signinRequest.getEmail() , passwordEncoder.encode(signinRequest.getPassword()) , UserRole.ADMIN);
-        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findByEmailBypassingCache(signinRequest.getEmail())).willReturn(Optional.of(user));
 
         String token = jwtUtil.createToken(1L, user.getEmail(), UserRole.ADMIN);
         when(jwtUtil.createToken(any(), anyString(), any())).thenReturn(token);
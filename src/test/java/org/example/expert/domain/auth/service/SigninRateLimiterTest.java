@@ -0,0 +1,35 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigninRateLimiterTest {
+
+    @Test
+    void 같은_이메일로_허용량을_넘으면_거절한다() {
+        // given
+        SigninRateLimiter limiter = new SigninRateLimiter(2, 1, 100, 100, 10);
+        limiter.checkAllowed("test@test.com", "127.0.0.1");
+        limiter.checkAllowed("TEST@test.com", "127.0.0.2");
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> limiter.checkAllowed("test@test.com", "127.0.0.3"));
+
+        // then
+        assertEquals("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", exception.getMessage());
+        assertDoesNotThrow(() -> limiter.checkAllowed("other@test.com", "127.0.0.3"));
+    }
+
+    @Test
+    void 같은_IP로_허용량을_넘으면_거절한다() {
+        // given
+        SigninRateLimiter limiter = new SigninRateLimiter(100, 100, 1, 1, 10);
+        limiter.checkAllowed("a@test.com", "127.0.0.1");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> limiter.checkAllowed("b@test.com", "127.0.0.1"));
+    }
+}
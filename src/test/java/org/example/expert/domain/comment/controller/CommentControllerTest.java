@@ -5,10 +5,13 @@ import org.example.expert.TestCommonData;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentListResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentScrollResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -28,13 +31,17 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -50,6 +57,9 @@ public class CommentControllerTest {
     @MockBean // 깡통 객체를 주입받는다. (있는 척 한다)
     private CommentService commentService;
 
+    @MockBean
+    private TodoChangeTracker todoChangeTracker;
+
     @SpyBean
     private JwtUtil jwtUtil; // JwtUtil 모킹
 
@@ -139,7 +149,7 @@ public class CommentControllerTest {
 
         given(authUserArgumentResolver.supportsParameter(any())).willReturn(true);
         given(authUserArgumentResolver.resolveArgument(any() , any() , any() , any())).willReturn(authUser);
-        given(commentService.getComments(anyLong())).willReturn(dtoList);
+        given(commentService.getComments(anyLong())).willReturn(new CommentListResponse(3L , dtoList));
 
         // when
         ResultActions resultActions = mvc.perform(get("/todos/{todoId}/comments" , todoId)
@@ -147,8 +157,57 @@ public class CommentControllerTest {
         );
 
         // then
-        resultActions.andExpect(status().isOk()).andDo(print());
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG , "\"todo-1-3\""))
+                .andExpect(jsonPath("$[0].contents").value("내용1"))
+                .andDo(print());
 
         verify(commentService , times(1)).getComments(anyLong());
     }
+
+    @Test
+    public void getComments_함께_읽은_revision_의_ETag_가_같으면_304_를_돌려준다() throws Exception {
+        // given
+        long todoId = 1L;
+
+        given(commentService.getComments(todoId)).willReturn(new CommentListResponse(3L , List.of()));
+
+        // when
+        ResultActions resultActions = mvc.perform(get("/todos/{todoId}/comments" , todoId)
+                .header(HttpHeaders.AUTHORIZATION , token)
+                .header(HttpHeaders.IF_NONE_MATCH , "\"todo-1-3\"")
+        );
+
+        // then
+        resultActions.andExpect(status().isNotModified()).andDo(print());
+
+        verify(todoChangeTracker , never()).todoEtag(anyLong());
+    }
+
+    @Test
+    public void scrollComments_동작_완료() throws Exception {
+        // given
+        long todoId = 1L;
+
+        User user = User.fromAuthUser(authUser);
+        CommentScrollResponse scrollResponse = new CommentScrollResponse(List.of(
+                new CommentResponse(1L , "내용1" , new UserResponse(user.getId(), user.getEmail()))
+        ), "next" , true);
+
+        given(commentService.scrollComments(anyLong() , any() , anyInt())).willReturn(scrollResponse);
+
+        // when
+        ResultActions resultActions = mvc.perform(get("/todos/{todoId}/comments/scroll" , todoId)
+                .header(HttpHeaders.AUTHORIZATION , token)
+                .param("size" , "1")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+
+        verify(commentService , times(1)).scrollComments(todoId , null , 1);
+    }
 }
@@ -1,13 +1,18 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 
@@ -16,6 +21,10 @@ public class CommentAdminServiceTest {
 
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TodoChangeTracker todoChangeTracker;
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -23,13 +32,17 @@ public class CommentAdminServiceTest {
     public void deleteComment_동작_완료() {
         // given
         long commentId = 1L;
+        long todoId = 2L;
 
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
         doNothing().when(commentRepository).deleteById(anyLong());
 
         // when
         commentAdminService.deleteComment(commentId);
 
         // then
+        verify(todoRepository).addCommentCount(todoId, -1);
+        verify(todoChangeTracker).touch(todoId);
         verify(commentRepository).deleteById(commentId);
     }
 }
@@ -1,21 +1,28 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.request.CommentCursor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentScrollResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.comment.dto.response.CommentListResponse;
+import org.example.expert.domain.common.support.RequestCoalescer;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
@@ -26,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -34,6 +42,10 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoChangeTracker todoChangeTracker;
+    @Spy
+    private RequestCoalescer<Long, CommentListResponse> commentReadCoalescer = new RequestCoalescer<>("comments");
     @InjectMocks
     private CommentService commentService;
 
@@ -63,6 +75,7 @@ class CommentServiceTest {
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
         User user = User.fromAuthUser(authUser);
         Todo todo = new Todo("title", "title", "contents", user);
+        ReflectionTestUtils.setField(todo , "id" , todoId);
         Comment comment = new Comment(request.getContents(), user, todo);
 
         given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
@@ -73,6 +86,7 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        verify(todoChangeTracker).touch(todoId);
     }
 
     @Test
@@ -123,6 +137,8 @@ class CommentServiceTest {
 
         // then
         assertNotNull(commentSaveResponse);
+        verify(todoRepository).addCommentCount(todoId, 1);
+        verify(todoChangeTracker).touch(todoId);
         assertEquals(comment.getId(), commentSaveResponse.getId());
         assertEquals(comment.getContents(), commentSaveResponse.getContents());
     }
@@ -135,25 +151,86 @@ class CommentServiceTest {
 
         long todoId = 1L;
 
-        Todo todo = new Todo("제목", "내용", "날씨", user);
-
-        // User 및 Comment 객체 생성
-        List<Comment> commentList = Arrays.asList(
-                new Comment("내용1", user, todo),
-                new Comment("내용2", user, todo)
+        // 저장소는 projection 으로 응답 DTO 를 바로 돌려줍니다.
+        List<CommentResponse> commentList = Arrays.asList(
+                new CommentResponse(1L, "내용1", user.getId(), user.getEmail()),
+                new CommentResponse(2L, "내용2", user.getId(), user.getEmail())
         );
 
-        // Repository의 findByTodoIdWithUser 메서드를 모킹
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        // Repository의 findResponsesByTodoId 메서드를 모킹
+        given(todoRepository.findRevisionById(todoId)).willReturn(Optional.of(3L));
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(commentList);
 
         // when
-        List<CommentResponse> result = commentService.getComments(todoId);
+        CommentListResponse commentListResponse = commentService.getComments(todoId);
+        List<CommentResponse> result = commentListResponse.getComments();
 
         // then
+        assertEquals(3L, commentListResponse.getRevision());
         assertEquals(2, result.size());
         assertEquals("내용1", result.get(0).getContents());
         assertEquals("내용2", result.get(1).getContents());
         assertEquals("test@test.com", result.get(0).getUser().getEmail());
     }
 
+    @Test
+    public void scrollComments_다음_페이지가_있으면_cursor_를_돌려준다() {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> commentList = Arrays.asList(
+                new CommentResponse(1L, "내용1", 1L, "test@test.com"),
+                new CommentResponse(2L, "내용2", 1L, "test@test.com"),
+                new CommentResponse(3L, "내용3", 1L, "test@test.com")
+        );
+
+        given(commentRepository.findFirstResponsesByTodoId(todoId, Limit.of(3))).willReturn(commentList);
+
+        // when
+        CommentScrollResponse result = commentService.scrollComments(todoId, null, 2);
+
+        // then
+        assertEquals(2, result.getContents().size());
+        assertTrue(result.isHasNext());
+        assertEquals(2L, CommentCursor.decode(result.getNextCursor()).getId());
+    }
+
+    @Test
+    public void scrollComments_cursor_다음_댓글부터_조회한다() {
+        // given
+        long todoId = 1L;
+        String cursor = new CommentCursor(2L).encode();
+
+        given(commentRepository.findNextResponsesByTodoId(todoId, 2L, Limit.of(3))).willReturn(List.of(
+                new CommentResponse(3L, "내용3", 1L, "test@test.com")
+        ));
+
+        // when
+        CommentScrollResponse result = commentService.scrollComments(todoId, cursor, 2);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void scrollComments_size_가_최대값을_넘으면_에러가_발생한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.scrollComments(1L, null, 101));
+
+        // then
+        assertEquals("size는 1 이상 100 이하여야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    public void scrollComments_잘못된_cursor_면_에러가_발생한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.scrollComments(1L, "not-a-cursor", 10));
+
+        // then
+        assertEquals("잘못된 cursor 입니다.", exception.getMessage());
+    }
+
 }
@@ -0,0 +1,193 @@
+package org.example.expert.domain.common.support;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private final RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>("test");
+
+    @Test
+    public void 동시_요청은_하나의_조회를_공유한다() throws Exception {
+        // given
+        int followers = 4;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(followers + 1);
+
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.load(1L, () -> {
+                loadCount.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "결과";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < followers; i++) {
+                results.add(executor.submit(() -> coalescer.load(1L, () -> {
+                    loadCount.incrementAndGet();
+                    return "다른 결과";
+                })));
+            }
+            while (coalescer.getCollapsedCount() < followers) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // then
+            assertEquals("결과", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> result : results) {
+                assertEquals("결과", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loadCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void 조회가_끝나면_결과를_남기지_않는다() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        coalescer.load(1L, () -> "결과" + loadCount.incrementAndGet());
+        String second = coalescer.load(1L, () -> "결과" + loadCount.incrementAndGet());
+
+        // then
+        assertEquals("결과2", second);
+        assertEquals(0, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void 조회가_실패하면_예외를_그대로_던진다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> coalescer.load(1L, () -> {
+                    throw new InvalidRequestException("Todo not found");
+                }));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        assertEquals("결과", coalescer.load(1L, () -> "결과"));
+    }
+
+    @Test
+    public void 조회_중_Error_가_나도_기다리던_요청이_풀린다() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.load(1L, () -> {
+                loading.countDown();
+                await(release);
+                throw new OutOfMemoryError("테스트");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // when
+            Future<String> follower = executor.submit(() -> coalescer.load(1L, () -> "다른 결과"));
+            while (coalescer.getCollapsedCount() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // then
+            ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(OutOfMemoryError.class, leaderFailure.getCause());
+            ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(OutOfMemoryError.class, followerFailure.getCause());
+            assertEquals("결과", coalescer.load(1L, () -> "결과"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void 오래_기다리면_직접_조회한다() throws Exception {
+        // given
+        RequestCoalescer<Long, String> shortWait = new RequestCoalescer<>("test", Duration.ofMillis(50));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> shortWait.load(1L, () -> {
+                loading.countDown();
+                await(release);
+                return "결과";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // when
+            String result = shortWait.load(1L, () -> "직접 조회");
+
+            // then
+            assertEquals("직접 조회", result);
+            assertEquals(1, shortWait.getTimedOutCount());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void bypass_요청은_진행_중인_조회에_합치지_않는다() throws Exception {
+        // given
+        AtomicBoolean pinned = new AtomicBoolean(false);
+        RequestCoalescer<Long, String> routed = new RequestCoalescer<>("test", Duration.ofSeconds(5), pinned::get);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> leader = executor.submit(() -> routed.load(1L, () -> {
+                loading.countDown();
+                await(release);
+                return "복제본 결과";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // when
+            pinned.set(true);
+            String result = routed.load(1L, () -> "primary 결과");
+
+            // then
+            assertEquals("primary 결과", result);
+            assertEquals(0, routed.getCollapsedCount());
+            release.countDown();
+            assertEquals("복제본 결과", leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
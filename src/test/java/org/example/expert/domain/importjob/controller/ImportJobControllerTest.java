@@ -0,0 +1,93 @@
+package org.example.expert.domain.importjob.controller;
+
+import org.example.expert.TestCommonData;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.importjob.dto.response.ImportJobResponse;
+import org.example.expert.domain.importjob.entity.ImportJob;
+import org.example.expert.domain.importjob.enums.ImportFormat;
+import org.example.expert.domain.importjob.enums.ImportKind;
+import org.example.expert.domain.importjob.service.ImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = {ImportJobController.class}
+)
+class ImportJobControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ImportService importService;
+
+    @SpyBean
+    private JwtUtil jwtUtil; // JwtUtil 모킹
+
+    private String token;
+    private ImportJobResponse jobResponse;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        TestCommonData.initToken(jwtUtil);
+        this.token = TestCommonData.TOKEN;
+
+        ImportJob job = new ImportJob(ImportKind.TODO);
+        ReflectionTestUtils.setField(job, "id", 1L);
+        this.jobResponse = new ImportJobResponse(job);
+    }
+
+    @Test
+    public void importTodos_CSV_본문을_넘긴다() throws Exception {
+        // given
+        given(importService.startImport(eq(ImportKind.TODO), eq(ImportFormat.CSV), any())).willReturn(jobResponse);
+
+        // when
+        ResultActions resultActions = mvc.perform(post("/admin/imports/todos")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType("text/csv")
+                .content("title,contents,weather,authorEmail\n제목,내용,맑음,a@a.com\n")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andDo(print());
+        verify(importService).startImport(eq(ImportKind.TODO), eq(ImportFormat.CSV), any());
+    }
+
+    @Test
+    public void getImportJob_진행_상황을_조회한다() throws Exception {
+        // given
+        given(importService.getImportJob(1L)).willReturn(jobResponse);
+
+        // when
+        ResultActions resultActions = mvc.perform(get("/admin/imports/{jobId}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.processedRows").value(0))
+                .andDo(print());
+    }
+}
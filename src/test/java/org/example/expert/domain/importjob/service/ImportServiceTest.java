@@ -0,0 +1,208 @@
+package org.example.expert.domain.importjob.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.importjob.dto.response.ImportJobResponse;
+import org.example.expert.domain.importjob.entity.ImportJob;
+import org.example.expert.domain.importjob.enums.ImportFormat;
+import org.example.expert.domain.importjob.enums.ImportKind;
+import org.example.expert.domain.importjob.enums.ImportStatus;
+import org.example.expert.domain.importjob.repository.ImportJobRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TodoChangeTracker todoChangeTracker;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportService importService;
+    private final User author = new User("a@a.com", "password", UserRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(
+                importJobRepository,
+                userRepository,
+                todoRepository,
+                commentRepository,
+                entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                todoChangeTracker,
+                new ObjectMapper(),
+                transactionManager,
+                2
+        );
+    }
+
+    @Test
+    void startImport_chunk_단위로_저장하고_실패한_행은_건너뛴다() {
+        // given
+        ImportJob job = givenJob(ImportKind.TODO);
+        given(importJobRepository.save(any(ImportJob.class))).willReturn(job);
+        given(userRepository.findAllByEmailIn(anyCollection())).willReturn(List.of(author));
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        InputStream inputStream = ndjson(
+                "{\"title\":\"제목1\",\"contents\":\"내용1\",\"weather\":\"맑음\",\"authorEmail\":\"a@a.com\"}",
+                "{\"title\":\"\",\"contents\":\"내용2\",\"weather\":\"맑음\",\"authorEmail\":\"a@a.com\"}",
+                "{\"title\":\"제목3\",\"contents\":\"내용3\",\"weather\":\"맑음\",\"authorEmail\":\"x@x.com\"}"
+        );
+
+        // when
+        ImportJobResponse response = importService.startImport(ImportKind.TODO, ImportFormat.NDJSON, inputStream);
+
+        // then
+        assertEquals(ImportStatus.COMPLETED, response.getStatus());
+        assertEquals(3, response.getProcessedRows());
+        assertEquals(1, response.getImportedRows());
+        assertEquals(2, response.getFailedRows());
+        assertEquals("3 번째 행: 작성자를 찾을 수 없습니다. x@x.com", response.getLastError());
+        verify(userRepository, times(2)).findAllByEmailIn(anyCollection());
+        verify(todoChangeTracker, times(1)).collectionChanged();
+    }
+
+    @Test
+    void resumeImport_커밋된_행은_건너뛰고_이어서_저장한다() {
+        // given
+        ImportJob job = givenJob(ImportKind.TODO);
+        job.commitChunk(2, 2, 0, null);
+        job.fail("저장에 실패했습니다.");
+        given(userRepository.findAllByEmailIn(anyCollection())).willReturn(List.of(author));
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        InputStream inputStream = ndjson(
+                "{\"title\":\"제목1\",\"contents\":\"내용1\",\"weather\":\"맑음\",\"authorEmail\":\"a@a.com\"}",
+                "{\"title\":\"제목2\",\"contents\":\"내용2\",\"weather\":\"맑음\",\"authorEmail\":\"a@a.com\"}",
+                "{\"title\":\"제목3\",\"contents\":\"내용3\",\"weather\":\"맑음\",\"authorEmail\":\"a@a.com\"}"
+        );
+
+        // when
+        ImportJobResponse response = importService.resumeImport(1L, ImportFormat.NDJSON, inputStream);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Todo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(todoRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals("제목3", captor.getValue().get(0).getTitle());
+        assertEquals(ImportStatus.COMPLETED, response.getStatus());
+        assertEquals(3, response.getProcessedRows());
+        assertNull(response.getLastError());
+    }
+
+    @Test
+    void resumeImport_완료된_작업은_이어서_가져올_수_없다() {
+        // given
+        ImportJob job = givenJob(ImportKind.TODO);
+        job.complete();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> importService.resumeImport(1L, ImportFormat.NDJSON, ndjson()));
+
+        // then
+        assertEquals("이미 완료된 import 입니다.", exception.getMessage());
+    }
+
+    @Test
+    void startImport_행을_읽을_수_없으면_읽은_데까지_커밋하고_멈춘다() {
+        // given
+        ImportJob job = givenJob(ImportKind.TODO);
+        given(importJobRepository.save(any(ImportJob.class))).willReturn(job);
+        given(userRepository.findAllByEmailIn(anyCollection())).willReturn(List.of(author));
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        InputStream inputStream = ndjson(
+                "{\"title\":\"제목1\",\"contents\":\"내용1\",\"weather\":\"맑음\",\"authorEmail\":\"a@a.com\"}",
+                "{\"title\":"
+        );
+
+        // when
+        ImportJobResponse response = importService.startImport(ImportKind.TODO, ImportFormat.NDJSON, inputStream);
+
+        // then
+        assertEquals(ImportStatus.FAILED, response.getStatus());
+        assertEquals(1, response.getProcessedRows());
+        assertTrue(response.getLastError().startsWith("2 번째 행을 읽을 수 없습니다."));
+    }
+
+    @Test
+    void startImport_CSV_댓글은_일정별로_댓글_수를_한_번에_올린다() {
+        // given
+        ImportJob job = givenJob(ImportKind.COMMENT);
+        given(importJobRepository.save(any(ImportJob.class))).willReturn(job);
+        given(userRepository.findAllByEmailIn(anyCollection())).willReturn(List.of(author));
+        given(todoRepository.findExistingIds(anyCollection())).willReturn(List.of(10L));
+        given(commentRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        InputStream inputStream = new ByteArrayInputStream((
+                "todoId,contents,authorEmail\n" +
+                "10,댓글1,a@a.com\n" +
+                "10,\"댓글, 2\",a@a.com\n"
+        ).getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ImportJobResponse response = importService.startImport(ImportKind.COMMENT, ImportFormat.CSV, inputStream);
+
+        // then
+        assertEquals(ImportStatus.COMPLETED, response.getStatus());
+        assertEquals(2, response.getImportedRows());
+        verify(todoRepository).addCommentCountAndIncrementRevision(List.of(10L), 2);
+        verify(todoChangeTracker).recordChanges(Set.of(10L));
+    }
+
+    private ImportJob givenJob(ImportKind kind) {
+        ImportJob job = new ImportJob(kind);
+        ReflectionTestUtils.setField(job, "id", 1L);
+        given(importJobRepository.findForUpdateById(1L)).willReturn(Optional.of(job));
+        return job;
+    }
+
+    private InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
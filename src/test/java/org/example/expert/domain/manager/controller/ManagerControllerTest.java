@@ -9,6 +9,7 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -48,6 +49,9 @@ public class ManagerControllerTest {
     @MockBean // 깡통 객체를 주입받는다. (있는 척 한다)
     private ManagerService managerService;
 
+    @MockBean
+    private TodoChangeTracker todoChangeTracker;
+
     @SpyBean
     private JwtUtil jwtUtil; // JwtUtil 모킹
 
@@ -9,6 +9,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -37,6 +38,8 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoChangeTracker todoChangeTracker;
     @InjectMocks
     private ManagerService managerService;
 
@@ -44,7 +47,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_IRE_에러를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoRepository.existsById(todoId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -82,10 +85,12 @@ class ManagerServiceTest {
         ReflectionTestUtils.setField(todo, "id", todoId);
 
         Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        List<ManagerResponse> managerList = List.of(
+                new ManagerResponse(mockManager.getId(), mockManager.getUser().getId(), mockManager.getUser().getEmail())
+        );
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -210,6 +215,8 @@ class ManagerServiceTest {
 
         // then
         assertNotNull(managerSaveResponse);
+        verify(todoRepository).addManagerCount(todoId, 1);
+        verify(todoChangeTracker).touch(todoId);
         assertEquals(managerUser.getId(), managerSaveResponse.getUser().getId());
         assertEquals(managerUser.getEmail(), managerSaveResponse.getUser().getEmail());
     }
@@ -323,6 +330,8 @@ class ManagerServiceTest {
 
         // then
         verify(managerRepository).delete(manager);
+        verify(todoRepository).addManagerCount(todoId, -1);
+        verify(todoChangeTracker).touch(todoId);
     }
 
 }
@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.TestCommonData;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+        controllers = {TodoAdminController.class}
+)
+class TodoAdminControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private TodoExportService todoExportService;
+
+    @SpyBean
+    private JwtUtil jwtUtil; // JwtUtil 모킹
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        TestCommonData.initToken(jwtUtil);
+        this.token = TestCommonData.TOKEN;
+    }
+
+    @Test
+    public void exportTodos_CSV_를_스트리밍한다() throws Exception {
+        // given
+        given(todoExportService.export(eq(TodoExportFormat.CSV), any())).willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // when
+        MvcResult mvcResult = mvc.perform(get("/admin/todos/export")
+                        .param("format", "csv")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.csv\""))
+                .andExpect(content().string("id\n1\n"))
+                .andDo(print());
+    }
+
+    @Test
+    public void exportTodos_지원하지_않는_형식이면_400() throws Exception {
+        // when
+        mvc.perform(get("/admin/todos/export")
+                        .param("format", "xml")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+
+        // then
+        verify(todoExportService, never()).export(any(), any());
+    }
+}
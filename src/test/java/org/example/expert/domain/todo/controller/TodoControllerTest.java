@@ -6,8 +6,12 @@ import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBulkService;
+import org.example.expert.domain.todo.service.TodoChangeTracker;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -23,22 +27,28 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -54,6 +64,12 @@ public class TodoControllerTest {
     @MockBean // 깡통 객체를 주입받는다. (있는 척 한다)
     private TodoService todoService;
 
+    @MockBean
+    private TodoChangeTracker todoChangeTracker;
+
+    @MockBean
+    private TodoBulkService todoBulkService;
+
     @SpyBean
     private JwtUtil jwtUtil; // JwtUtil 모킹
 
@@ -152,6 +168,37 @@ public class TodoControllerTest {
         verify(todoService , times(0)).saveTodo(any() , any());
     }
 
+    @Test
+    public void saveTodos_NDJSON_본문을_한_줄씩_읽는다() throws Exception {
+        // given
+        String body = objectMapper.writeValueAsString(new TodoSaveRequest("제목1", "내용1")) + "\n"
+                + objectMapper.writeValueAsString(new TodoSaveRequest("제목2", "내용2")) + "\n";
+
+        given(authUserArgumentResolver.supportsParameter(any())).willReturn(true);
+        given(authUserArgumentResolver.resolveArgument(any() , any() , any() , any())).willReturn(authUser);
+        given(todoBulkService.saveTodos(any(), any())).willAnswer(invocation -> {
+            Iterator<TodoSaveRequest> requests = invocation.getArgument(1);
+            List<TodoBulkItemResponse> results = new ArrayList<>();
+            for (int i = 0; requests.hasNext(); i++) {
+                requests.next();
+                results.add(TodoBulkItemResponse.success(i, (long) i + 1));
+            }
+            return new TodoBulkSaveResponse(results);
+        });
+
+        // when
+        ResultActions resultActions = mvc.perform(post("/todos/bulk")
+                .header(HttpHeaders.AUTHORIZATION , token)
+                .content(body)
+                .contentType(MediaType.APPLICATION_NDJSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andDo(print());
+    }
+
     @Test
     public void getTodos_동작_완료() throws Exception {
         // given
@@ -184,6 +231,30 @@ public class TodoControllerTest {
         verify(todoService , times(1)).getTodos(anyInt() , anyInt());
     }
 
+    @Test
+    public void getTodos_전체_개수_없이_조회() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0 , 10);
+        User user = User.fromAuthUser(authUser);
+        Slice<TodoResponse> todoResponsesSlice = new SliceImpl<>(List.of(
+                new TodoResponse(1L , "제목1", "내용1", "맑음", new UserResponse(user.getId() , user.getEmail()) , null , null)
+        ), pageable, false);
+
+        given(todoService.getTodoSlice(anyInt() , anyInt())).willReturn(todoResponsesSlice);
+
+        // when
+        ResultActions resultActions = mvc.perform(get("/todos")
+                .header(HttpHeaders.AUTHORIZATION , token)
+                .param("withTotal" , "false")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk()).andDo(print());
+
+        verify(todoService , times(1)).getTodoSlice(anyInt() , anyInt());
+        verify(todoService , times(0)).getTodos(anyInt() , anyInt());
+    }
+
     @Test
     public void getTodo_동작_완료() throws Exception {
         // given
@@ -206,4 +277,24 @@ public class TodoControllerTest {
 
         verify(todoService , times(1)).getTodo(anyLong());
     }
+
+    @Test
+    public void getTodo_ETag_가_같으면_304_를_돌려준다() throws Exception {
+        // given
+        long todoId = 1L;
+
+        TodoResponse todoResponse = new TodoResponse(todoId, "제목", "내용", "맑음", new UserResponse(1L, "a@a.com"), null, null, 0, 0, 3L);
+        given(todoService.getTodo(todoId)).willReturn(todoResponse);
+
+        // when
+        ResultActions resultActions = mvc.perform(get("/todos/{todoId}" , todoId)
+                .header(HttpHeaders.AUTHORIZATION , token)
+                .header(HttpHeaders.IF_NONE_MATCH , "\"todo-1-3\"")
+        );
+
+        // then
+        resultActions.andExpect(status().isNotModified()).andDo(print());
+
+        verify(todoChangeTracker , never()).todoEtag(anyLong());
+    }
 }
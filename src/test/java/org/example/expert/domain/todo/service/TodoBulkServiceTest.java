@@ -0,0 +1,151 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoBulkServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TodoChangeTracker todoChangeTracker;
+
+    private TodoBulkService todoBulkService;
+    private final AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        todoBulkService = new TodoBulkService(
+                todoRepository,
+                weatherClient,
+                entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager,
+                todoChangeTracker,
+                2,
+                100
+        );
+    }
+
+    @Test
+    void saveTodos_날씨는_한_번만_조회하고_chunk_단위로_저장한다() {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("맑음");
+        AtomicLong sequence = new AtomicLong();
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            todos.forEach(todo -> ReflectionTestUtils.setField(todo, "id", sequence.incrementAndGet()));
+            return todos;
+        });
+
+        Iterator<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("제목1", "내용1"),
+                new TodoSaveRequest("", "내용2"),
+                new TodoSaveRequest("제목3", "내용3"),
+                new TodoSaveRequest("제목4", "내용4")
+        ).iterator();
+
+        // when
+        TodoBulkSaveResponse response = todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        assertEquals(3, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(1L, response.getResults().get(0).getId());
+        assertNotNull(response.getResults().get(1).getError());
+        assertEquals(3L, response.getResults().get(3).getId());
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(todoRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void saveTodos_chunk_저장이_실패하면_해당_항목만_실패로_알려준다() {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("맑음");
+        given(todoRepository.saveAll(anyList()))
+                .willThrow(new DataAccessResourceFailureException("db down"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        Iterator<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("제목1", "내용1"),
+                new TodoSaveRequest("제목2", "내용2"),
+                new TodoSaveRequest("제목3", "내용3")
+        ).iterator();
+
+        // when
+        TodoBulkSaveResponse response = todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        assertEquals(1, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals("저장에 실패했습니다.", response.getResults().get(0).getError());
+        assertNull(response.getResults().get(2).getError());
+    }
+
+    @Test
+    void saveTodos_요청을_더_읽을_수_없으면_그_지점에서_멈춘다() {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("맑음");
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        Iterator<TodoSaveRequest> requests = new Iterator<>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                if (count >= 1) {
+                    throw new IllegalStateException("Unexpected character");
+                }
+                return true;
+            }
+
+            @Override
+            public TodoSaveRequest next() {
+                count++;
+                return new TodoSaveRequest("제목", "내용");
+            }
+        };
+
+        // when
+        TodoBulkSaveResponse response = todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        assertEquals(2, response.getResults().size());
+        assertEquals(1, response.getSucceeded());
+        assertEquals("요청 형식이 올바르지 않아 이후 항목을 처리하지 않았습니다.", response.getResults().get(1).getError());
+    }
+}
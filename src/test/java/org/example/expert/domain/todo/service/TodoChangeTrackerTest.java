@@ -0,0 +1,191 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.TodoChangeLog;
+import org.example.expert.domain.todo.entity.TodoCollectionVersion;
+import org.example.expert.domain.todo.repository.TodoChangeLogRepository;
+import org.example.expert.domain.todo.repository.TodoCollectionVersionRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoChangeTrackerTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TodoChangeLogRepository todoChangeLogRepository;
+    @Mock
+    private TodoNearCache todoNearCache;
+    @Mock
+    private TodoCollectionVersionRepository todoCollectionVersionRepository;
+    @InjectMocks
+    private TodoChangeTracker todoChangeTracker;
+
+    @Test
+    public void todoEtag_는_revision_으로_만든다() {
+        // given
+        givenNearCacheMiss();
+        given(todoRepository.findResponseById(1L)).willReturn(Optional.of(
+                new TodoResponse(1L, "제목", "내용", "맑음", 1L, "a@a.com", null, null, 0, 0, 3L)));
+
+        // when
+        String etag = todoChangeTracker.todoEtag(1L);
+
+        // then
+        assertEquals("todo-1-3", etag);
+    }
+
+    @Test
+    public void todoEtag_일정이_없으면_ETag_없이_처리한다() {
+        // given
+        givenNearCacheMiss();
+        given(todoRepository.findResponseById(1L)).willReturn(Optional.empty());
+
+        // when
+        String etag = todoChangeTracker.todoEtag(1L);
+
+        // then
+        assertNull(etag);
+    }
+
+    @Test
+    public void touch_하면_revision_과_목록_버전을_올린다() {
+        // given
+        given(todoCollectionVersionRepository.increment(TodoCollectionVersion.ID)).willReturn(1);
+
+        // when
+        todoChangeTracker.touch(1L);
+
+        // then
+        verify(todoRepository).incrementRevision(1L);
+        verify(todoChangeLogRepository).saveAll(anyList());
+        verify(todoNearCache).invalidate(1L);
+        verify(todoCollectionVersionRepository).increment(TodoCollectionVersion.ID);
+    }
+
+    @Test
+    public void touch_한_기록은_커밋_직전에_시각을_다시_찍는다() {
+        // given
+        given(todoChangeLogRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<TodoChangeLog> changeLogs = invocation.getArgument(0);
+            changeLogs.forEach(changeLog -> ReflectionTestUtils.setField(changeLog, "id", changeLog.getTodoId() * 10));
+            return changeLogs;
+        });
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            todoChangeTracker.touch(1L);
+            todoChangeTracker.touch(2L);
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+            // then
+            verify(todoChangeLogRepository).stampChangedAt(eq(List.of(10L, 20L)), any(LocalDateTime.class));
+        } finally {
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void recordChanges_는_여러_일정의_기록을_한_번에_저장한다() {
+        // given
+        given(todoCollectionVersionRepository.increment(TodoCollectionVersion.ID)).willReturn(1);
+
+        // when
+        todoChangeTracker.recordChanges(List.of(1L, 2L));
+
+        // then
+        verify(todoChangeLogRepository, times(1)).saveAll(anyList());
+        verify(todoRepository, never()).incrementRevision(anyLong());
+        verify(todoNearCache).invalidate(1L);
+        verify(todoNearCache).invalidate(2L);
+        verify(todoCollectionVersionRepository, times(1)).increment(TodoCollectionVersion.ID);
+    }
+
+    @Test
+    public void collectionChanged_목록_버전을_올리지_못해도_예외를_던지지_않고_다시_올린다() {
+        // given
+        given(todoCollectionVersionRepository.increment(TodoCollectionVersion.ID))
+                .willThrow(new DataAccessResourceFailureException("db down"))
+                .willReturn(1);
+
+        // when
+        assertDoesNotThrow(() -> todoChangeTracker.collectionChanged());
+        todoChangeTracker.retryCollectionVersion();
+        todoChangeTracker.retryCollectionVersion();
+
+        // then
+        verify(todoCollectionVersionRepository, times(2)).increment(TodoCollectionVersion.ID);
+    }
+
+    @Test
+    public void collectionChanged_버전_행이_없으면_만든_뒤_올린다() {
+        // given
+        given(todoCollectionVersionRepository.increment(TodoCollectionVersion.ID)).willReturn(0, 1);
+        given(todoCollectionVersionRepository.existsById(TodoCollectionVersion.ID)).willReturn(false);
+
+        // when
+        todoChangeTracker.collectionChanged();
+
+        // then
+        verify(todoCollectionVersionRepository).saveAndFlush(any(TodoCollectionVersion.class));
+        verify(todoCollectionVersionRepository, times(2)).increment(TodoCollectionVersion.ID);
+    }
+
+    @Test
+    public void collectionEtag_는_공유_버전으로_만든다() {
+        // given
+        given(todoCollectionVersionRepository.findVersionById(TodoCollectionVersion.ID)).willReturn(Optional.of(7L));
+
+        // when
+        String etag = todoChangeTracker.collectionEtag();
+
+        // then
+        assertEquals("todos-7", etag);
+    }
+
+    @Test
+    public void initCollectionVersion_버전_행이_없으면_만든다() {
+        // given
+        given(todoCollectionVersionRepository.existsById(TodoCollectionVersion.ID)).willReturn(false);
+
+        // when
+        todoChangeTracker.initCollectionVersion();
+
+        // then
+        verify(todoCollectionVersionRepository).saveAndFlush(any(TodoCollectionVersion.class));
+    }
+
+    private void givenNearCacheMiss() {
+        given(todoNearCache.getTodo(anyLong(), any())).willAnswer(invocation -> {
+            Function<Long, TodoResponse> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+    }
+}
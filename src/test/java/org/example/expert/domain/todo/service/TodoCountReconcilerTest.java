@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.entity.TodoCollectionVersion;
+import org.example.expert.domain.todo.repository.TodoCollectionVersionRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountReconcilerTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TodoCollectionVersionRepository todoCollectionVersionRepository;
+    @Mock
+    private TodoCounter todoCounter;
+    @Mock
+    private TodoChangeTracker todoChangeTracker;
+    @InjectMocks
+    private TodoCountReconciler todoCountReconciler;
+
+    @Test
+    void reconcile_실제_일정_수로_카운터를_맞춘다() {
+        // given
+        TodoCounter counter = new TodoCounter();
+        TodoCountReconciler reconciler = new TodoCountReconciler(todoRepository, todoCollectionVersionRepository, counter, todoChangeTracker);
+        given(todoRepository.count()).willReturn(7L);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertEquals(OptionalLong.of(7L), counter.current());
+    }
+
+    @Test
+    void reconcileIfChanged_목록_버전이_바뀌었을_때만_다시_센다() {
+        // given
+        given(todoCollectionVersionRepository.findVersionById(TodoCollectionVersion.ID))
+                .willReturn(Optional.of(3L), Optional.of(3L), Optional.of(4L));
+        given(todoRepository.count()).willReturn(7L, 8L);
+
+        // when
+        todoCountReconciler.reconcileIfChanged();
+        todoCountReconciler.reconcileIfChanged();
+        todoCountReconciler.reconcileIfChanged();
+
+        // then
+        verify(todoRepository, times(2)).count();
+        verify(todoCounter).reset(7L);
+        verify(todoCounter).reset(8L);
+    }
+
+    @Test
+    void reconcileAndRecoverVersion_개수가_어긋나_있으면_목록_버전을_올린다() {
+        // given
+        given(todoRepository.count()).willReturn(8L);
+        given(todoCounter.reset(8L)).willReturn(7L);
+
+        // when
+        todoCountReconciler.reconcileAndRecoverVersion();
+
+        // then
+        verify(todoChangeTracker).collectionChanged();
+    }
+
+    @Test
+    void reconcileAndRecoverVersion_개수가_맞으면_목록_버전을_그대로_둔다() {
+        // given
+        given(todoRepository.count()).willReturn(7L);
+        given(todoCounter.reset(7L)).willReturn(7L);
+
+        // when
+        todoCountReconciler.reconcileAndRecoverVersion();
+
+        // then
+        verify(todoChangeTracker, never()).collectionChanged();
+    }
+
+    @Test
+    void reconcileAssociationCounts_id_범위별로_나눠서_보정한다() {
+        // given
+        given(todoRepository.findMaxId()).willReturn(2_500L);
+
+        // when
+        todoCountReconciler.reconcileAssociationCounts();
+
+        // then
+        verify(todoRepository).reconcileAssociationCounts(1L, 1_000L);
+        verify(todoRepository).reconcileAssociationCounts(1_001L, 2_000L);
+        verify(todoRepository).reconcileAssociationCounts(2_001L, 3_000L);
+    }
+
+    @Test
+    void reconcileAssociationCounts_일정이_없으면_아무것도_하지_않는다() {
+        // given
+        given(todoRepository.findMaxId()).willReturn(null);
+
+        // when
+        todoCountReconciler.reconcileAssociationCounts();
+
+        // then
+        verify(todoRepository, never()).reconcileAssociationCounts(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TodoCounterTest {
+
+    @Test
+    void current_초기화_전에는_비어_있고_증감도_무시한다() {
+        // given
+        TodoCounter todoCounter = new TodoCounter();
+
+        // when
+        todoCounter.increment();
+
+        // then
+        assertEquals(OptionalLong.empty(), todoCounter.current());
+    }
+
+    @Test
+    void reset_이후에는_저장과_삭제를_반영한다() {
+        // given
+        TodoCounter todoCounter = new TodoCounter();
+        todoCounter.reset(10);
+
+        // when
+        todoCounter.increment();
+        todoCounter.increment();
+        todoCounter.decrement();
+
+        // then
+        assertEquals(OptionalLong.of(11), todoCounter.current());
+        assertEquals(11, todoCounter.reset(5));
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class TodoExportServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TodoExportService todoExportService;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        todoExportService = new TodoExportService(
+                entityManager,
+                new ObjectMapper().findAndRegisterModules(),
+                transactionManager,
+                100,
+                1
+        );
+    }
+
+    @Test
+    public void CSV_는_헤더와_이스케이프된_행을_쓴다() throws Exception {
+        // given
+        List<TodoResponse> rows = List.of(
+                new TodoResponse(1L, "제목, 하나", "말하길 \"안녕\"", "맑음", 2L, "a@a.com", createdAt, createdAt, 3, 1)
+        );
+        StringWriter writer = new StringWriter();
+
+        // when
+        long count = todoExportService.write(TodoExportFormat.CSV, rows.iterator(), writer);
+
+        // then
+        assertEquals(1, count);
+        assertEquals(TodoExportService.CSV_HEADER + "\n"
+                        + "1,\"제목, 하나\",\"말하길 \"\"안녕\"\"\",맑음,2,a@a.com,2024-09-01T10:00,2024-09-01T10:00,3,1\n",
+                writer.toString());
+    }
+
+    @Test
+    public void NDJSON_은_한_줄에_하나씩_쓴다() throws Exception {
+        // given
+        List<TodoResponse> rows = List.of(
+                new TodoResponse(1L, "제목1", "내용", "맑음", 2L, "a@a.com", createdAt, createdAt, 0, 1),
+                new TodoResponse(2L, "제목2", "내용", "흐림", 2L, "a@a.com", createdAt, createdAt, 0, 1)
+        );
+        StringWriter writer = new StringWriter();
+
+        // when
+        long count = todoExportService.write(TodoExportFormat.NDJSON, rows.iterator(), writer);
+
+        // then
+        String[] lines = writer.toString().split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertEquals(true, lines[0].startsWith("{\"id\":1,"));
+        assertEquals(true, lines[1].contains("\"email\":\"a@a.com\""));
+    }
+}
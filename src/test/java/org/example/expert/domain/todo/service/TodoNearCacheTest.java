@@ -0,0 +1,99 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoNearCacheTest {
+
+    @Mock
+    private TodoChangeLogRepository todoChangeLogRepository;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Function<Long, TodoResponse> loader = id -> {
+        loadCount.incrementAndGet();
+        return new TodoResponse(id, "제목", "내용", "맑음", 1L, "a@a.com", null, null, 0, 1);
+    };
+
+    @Test
+    public void 두_번째_조회부터는_캐시에서_돌려준다() {
+        // given
+        TodoNearCache todoNearCache = newCache(30_000);
+
+        // when
+        todoNearCache.getTodo(1L, loader);
+        todoNearCache.getTodo(1L, loader);
+
+        // then
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void 변경_기록을_읽으면_다른_서버에서_바뀐_일정을_지운다() {
+        // given
+        TodoNearCache todoNearCache = newCache(30_000);
+        todoNearCache.getTodo(1L, loader);
+        todoNearCache.getTodo(2L, loader);
+        given(todoChangeLogRepository.findTodoIdsChangedSince(any())).willReturn(List.of(1L));
+
+        // when
+        todoNearCache.pollChanges();
+        todoNearCache.getTodo(1L, loader);
+        todoNearCache.getTodo(2L, loader);
+
+        // then
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    public void 변경_기록을_오래_읽지_못하면_캐시를_쓰지_않는다() {
+        // given
+        TodoNearCache todoNearCache = newCache(1_000);
+        todoNearCache.getTodo(1L, loader);
+        given(todoChangeLogRepository.findTodoIdsChangedSince(any())).willThrow(new DataAccessResourceFailureException("db down"));
+        todoNearCache.pollChanges();
+        ReflectionTestUtils.setField(todoNearCache, "lastSucceededAt", System.currentTimeMillis() - 5_000);
+
+        // when
+        todoNearCache.getTodo(1L, loader);
+
+        // then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void 없는_일정은_캐시에_남기지_않는다() {
+        // given
+        TodoNearCache todoNearCache = newCache(30_000);
+        AtomicInteger missingLoads = new AtomicInteger();
+
+        // when
+        todoNearCache.getTodo(1L, id -> {
+            missingLoads.incrementAndGet();
+            return null;
+        });
+        todoNearCache.getTodo(1L, loader);
+
+        // then
+        assertEquals(1, missingLoads.get());
+        assertEquals(1, loadCount.get());
+    }
+
+    private TodoNearCache newCache(long maxStalenessMillis) {
+        return new TodoNearCache(todoChangeLogRepository, 100, 300, 5_000, maxStalenessMillis, 3_600_000);
+    }
+}
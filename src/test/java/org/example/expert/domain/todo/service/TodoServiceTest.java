@@ -1,11 +1,19 @@
 package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.support.RequestCoalescer;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -14,20 +22,34 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -38,6 +60,18 @@ public class TodoServiceTest {
     private TodoService todoService;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private TodoCounter todoCounter;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private TodoChangeTracker todoChangeTracker;
+    @Mock
+    private TodoNearCache todoNearCache;
+    @Spy
+    private RequestCoalescer<Long, TodoResponse> todoReadCoalescer = new RequestCoalescer<>("todo");
 
     @Test
     public void saveTodo_동작_완료() {
@@ -77,12 +111,12 @@ public class TodoServiceTest {
         Pageable pageable = PageRequest.of(page - 1 , size);
         AuthUser authUser = new AuthUser(1L , "test@test.com" , UserRole.ADMIN);
         User user = User.fromAuthUser(authUser);
-        List<Todo> todoList = Arrays.asList(
-                new Todo("제목1", "내용1", "맑음", user),
-                new Todo("제목2", "내용2", "흐림", user)
+        List<TodoResponse> todoList = Arrays.asList(
+                toResponse(new Todo("제목1", "내용1", "맑음", user)),
+                toResponse(new Todo("제목2", "내용2", "흐림", user))
         );
         // ※page 에 담기
-        Page<Todo> todosPage = new PageImpl<>(todoList, pageable, todoList.size());
+        Page<TodoResponse> todosPage = new PageImpl<>(todoList, pageable, todoList.size());
         given(todoRepository.findAllByOrderByModifiedAtDesc(any())).willReturn(todosPage);
 
         // when
@@ -95,11 +129,32 @@ public class TodoServiceTest {
         assertEquals("test@test.com", result.getContent().get(0).getUser().getEmail());
     }
 
+    @Test
+    public void getTodos_전체_개수는_count_쿼리_없이_TodoCounter에서_가져온다() {
+        // given
+        int page = 1;
+        int size = 1;
+        Pageable pageable = PageRequest.of(page - 1 , size);
+        User user = User.fromAuthUser(new AuthUser(1L , "test@test.com" , UserRole.ADMIN));
+        Slice<TodoResponse> todosSlice = new SliceImpl<>(List.of(toResponse(new Todo("제목1", "내용1", "맑음", user))), pageable, true);
+        given(todoRepository.findAllByOrderByModifiedAtDesc(any())).willReturn(todosSlice);
+        given(todoCounter.current()).willReturn(OptionalLong.of(42L));
+
+        // when
+        Page<TodoResponse> result = todoService.getTodos(page, size);
+
+        // then
+        assertEquals(42L, result.getTotalElements());
+        assertEquals(42, result.getTotalPages());
+        verify(todoRepository, never()).count();
+    }
+
     @Test
     public void getTodo_Todo_없음() {
         // given
         long todoId = 1L;
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+        givenNearCacheMiss();
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.empty());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todoId));
@@ -115,7 +170,8 @@ public class TodoServiceTest {
         AuthUser authUser = new AuthUser(1L , "test@test.com" , UserRole.ADMIN);
         User user = User.fromAuthUser(authUser);
         Todo todo = new Todo("제목" , "내용" , "날씨" , user);
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+        givenNearCacheMiss();
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(toResponse(todo)));
 
         // when
         TodoResponse todoResponse = todoService.getTodo(todoId);
@@ -127,4 +183,154 @@ public class TodoServiceTest {
         assertEquals(todo.getUser().getId() , todoResponse.getUser().getId());
         assertEquals(todo.getUser().getEmail() , todoResponse.getUser().getEmail());
     }
+
+    @Test
+    public void getTodo_캐시에_있으면_조회를_묶지_않는다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L , "test@test.com" , UserRole.ADMIN);
+        TodoResponse cached = toResponse(new Todo("제목" , "내용" , "날씨" , User.fromAuthUser(authUser)));
+        given(todoNearCache.getTodo(anyLong(), any())).willReturn(cached);
+
+        // when
+        TodoResponse result = todoService.getTodo(todoId);
+
+        // then
+        assertEquals("제목", result.getTitle());
+        verify(todoReadCoalescer, never()).load(any(), any());
+    }
+
+    @Test
+    public void getTodo_primary_에_고정된_사용자는_캐시를_거치지_않고_직접_읽는다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L , "test@test.com" , UserRole.ADMIN);
+        Todo todo = new Todo("제목" , "내용" , "날씨" , User.fromAuthUser(authUser));
+        given(todoReadCoalescer.isBypassed()).willReturn(true);
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(toResponse(todo)));
+
+        // when
+        TodoResponse result = todoService.getTodo(todoId);
+
+        // then
+        assertEquals("제목", result.getTitle());
+        verify(todoNearCache, never()).getTodo(anyLong(), any());
+    }
+
+    @Test
+    public void getTodoDetail_일정_댓글_담당자를_함께_반환한다() {
+        // given
+        long todoId = 1L;
+        User user = User.fromAuthUser(new AuthUser(1L , "test@test.com" , UserRole.ADMIN));
+        Todo todo = new Todo("제목" , "내용" , "날씨" , user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+        PageRequest commentPageable = PageRequest.of(0, 1);
+
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(toResponse(todo)));
+        given(commentRepository.findResponsesByTodoId(todoId, commentPageable)).willReturn(new SliceImpl<>(
+                List.of(new CommentResponse(10L, "댓글", user.getId(), user.getEmail())), commentPageable, true));
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(
+                List.of(new ManagerResponse(20L, user.getId(), user.getEmail())));
+
+        // when
+        TodoDetailResponse result = todoService.getTodoDetail(todoId, 1, 1);
+
+        // then
+        assertEquals("제목", result.getTodo().getTitle());
+        assertEquals(1, result.getComments().size());
+        assertTrue(result.isHasMoreComments());
+        assertEquals(20L, result.getManagers().get(0).getId());
+    }
+
+    @Test
+    public void getTodoDetail_Todo_없음() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoService.getTodoDetail(todoId, 1, 10));
+
+        // then
+        assertEquals("Todo not found" , exception.getMessage());
+    }
+
+    @Test
+    public void scrollTodos_다음_페이지가_있으면_마지막_위치로_cursor를_만든다() {
+        // given
+        User user = User.fromAuthUser(new AuthUser(1L , "test@test.com" , UserRole.ADMIN));
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        TodoResponse first = todoWithPosition(user, 3L, modifiedAt);
+        TodoResponse second = todoWithPosition(user, 2L, modifiedAt);
+        given(todoRepository.findFirstByCursor(Limit.of(2))).willReturn(List.of(first, second));
+
+        // when
+        TodoScrollResponse result = todoService.scrollTodos(null, 1);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        assertEquals(3L, result.getContents().get(0).getId());
+        assertTrue(result.isHasNext());
+        TodoCursor cursor = TodoCursor.decode(result.getNextCursor());
+        assertEquals(modifiedAt, cursor.getModifiedAt());
+        assertEquals(3L, cursor.getId());
+    }
+
+    @Test
+    public void scrollTodos_cursor_다음부터_조회한다() {
+        // given
+        User user = User.fromAuthUser(new AuthUser(1L , "test@test.com" , UserRole.ADMIN));
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new TodoCursor(modifiedAt, 3L).encode();
+        given(todoRepository.findNextByCursor(modifiedAt, 3L, Limit.of(11)))
+                .willReturn(List.of(todoWithPosition(user, 2L, modifiedAt)));
+
+        // when
+        TodoScrollResponse result = todoService.scrollTodos(cursor, 10);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void scrollTodos_잘못된_cursor() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.scrollTodos("not-a-cursor", 10));
+
+        // then
+        assertEquals("잘못된 cursor 입니다." , exception.getMessage());
+    }
+
+    private TodoResponse todoWithPosition(User user, Long id, LocalDateTime modifiedAt) {
+        Todo todo = new Todo("제목" + id, "내용", "맑음", user);
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "modifiedAt", modifiedAt);
+        return toResponse(todo);
+    }
+
+    // 저장소는 projection 으로 응답 DTO 를 바로 돌려줍니다.
+    private void givenNearCacheMiss() {
+        given(todoNearCache.getTodo(anyLong(), any())).willAnswer(invocation -> {
+            Function<Long, TodoResponse> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+    }
+
+    private TodoResponse toResponse(Todo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                todo.getUser().getId(),
+                todo.getUser().getEmail(),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
+        );
+    }
 }
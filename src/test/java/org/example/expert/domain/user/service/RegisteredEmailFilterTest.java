@@ -0,0 +1,49 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 채워지기_전에는_항상_DB_조회로_넘긴다() {
+        // given
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, transactionManager, 1000, 0.01);
+
+        // when & then
+        assertTrue(filter.mightContain("nobody@test.com"));
+    }
+
+    @Test
+    void 채워진_뒤에는_가입된_이메일만_포함한다() {
+        // given
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, transactionManager, 1000, 0.01);
+        given(userRepository.streamAllEmails()).willReturn(Stream.of("a@test.com", "b@test.com"));
+
+        // when
+        filter.loadAll();
+        filter.put("c@test.com");
+
+        // then
+        assertTrue(filter.mightContain("a@test.com"));
+        assertTrue(filter.mightContain("B@test.com"));
+        assertTrue(filter.mightContain("c@test.com"));
+        assertFalse(filter.mightContain("nobody@test.com"));
+    }
+}
@@ -35,7 +35,7 @@ public class UserAdminServiceTest {
     public void changeUserRole_아이디_못찾음() {
         // given
         long userId = 0L;
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userRepository.findByIdBypassingCache(userId)).willReturn(Optional.empty());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> userAdminService.changeUserRole(userId , null));
@@ -53,7 +53,7 @@ public class UserAdminServiceTest {
         User user = new User("test@test.com" , "1234" , UserRole.ADMIN);
         ReflectionTestUtils.setField(user , "id" , userId);
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(userRepository.findByIdBypassingCache(anyLong())).willReturn(Optional.of(user));
 
         // when
         userAdminService.changeUserRole(userId , userRoleChangeRequest);
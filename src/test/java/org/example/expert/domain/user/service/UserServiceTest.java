@@ -79,7 +79,7 @@ public class UserServiceTest {
         // given
         long userId = 1L;
         UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Aasd1234" , "Aasd2345");
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userRepository.findByIdBypassingCache(userId)).willReturn(Optional.empty());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> userService.changePassword(userId , userChangePasswordRequest));
@@ -94,7 +94,7 @@ public class UserServiceTest {
         long userId = 1L;
         User user = new User("test@test.com" , passwordEncoder.encode("Aasd12345") , UserRole.ADMIN);
         UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Aasd12345" , "Aasd12345");
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRepository.findByIdBypassingCache(userId)).willReturn(Optional.of(user));
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> userService.changePassword(userId , userChangePasswordRequest));
@@ -109,7 +109,7 @@ public class UserServiceTest {
         long userId = 1L;
         User user = new User("test@test.com" , passwordEncoder.encode("Aasd12345") , UserRole.ADMIN);
         UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Aasd1234" , "Aasd23456");
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRepository.findByIdBypassingCache(userId)).willReturn(Optional.of(user));
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> userService.changePassword(userId , userChangePasswordRequest));
@@ -124,7 +124,7 @@ public class UserServiceTest {
         long userId = 1L;
         User user = new User("test@test.com" , passwordEncoder.encode("Aasd12345") , UserRole.ADMIN);
         UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Aasd12345" , "Aasd23456");
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRepository.findByIdBypassingCache(userId)).willReturn(Optional.of(user));
 
         // when
         userService.changePassword(userId , userChangePasswordRequest);